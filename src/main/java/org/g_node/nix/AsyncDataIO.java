@@ -0,0 +1,172 @@
+package org.g_node.nix;
+
+import org.g_node.nix.internal.BackendLock;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * <h1>AsyncDataIO</h1>
+ * Runs the asynchronous data access of {@link DataArray} entities.
+ * <p>
+ * Operations submitted through the same {@link DataArray} object are executed in the order
+ * they were submitted, each one starting after the previous one finished. Objects are told
+ * apart by identity, so arrays with equal ids in different files never wait for each other.
+ * Objects retrieved separately for the same data array are ordered only if they are the same
+ * object, which is the case for files with an {@link org.g_node.nix.base.EntityCache}.
+ * Other operations may run concurrently on the executor, their calls into the back-end are
+ * serialized by the {@link BackendLock}. By default a small pool of daemon threads is used, any other executor
+ * can be plugged in, e.g. one that starts a virtual thread per task:
+ * <pre><code>
+ *     AsyncDataIO.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+ * </code></pre>
+ *
+ * @see DataArray#getDataAsync(java.nio.Buffer, NDSize, NDSize)
+ * @see DataArray#setDataAsync(java.nio.Buffer, NDSize, NDSize)
+ */
+public final class AsyncDataIO {
+
+    /**
+     * The number of threads of the default executor.
+     */
+    public static final int DEFAULT_THREADS = 2;
+
+    // last operation submitted per key, keys are compared by identity
+    private static final Map<Object, CompletableFuture<?>> tails =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static volatile Executor executor;
+
+    private AsyncDataIO() {
+    }
+
+    /**
+     * Get the executor the operations run on.
+     *
+     * @return The current executor.
+     */
+    public static Executor getExecutor() {
+        Executor current = executor;
+        if (current == null) {
+            synchronized (AsyncDataIO.class) {
+                if (executor == null) {
+                    executor = createDefaultExecutor();
+                }
+                current = executor;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Set the executor the operations run on.
+     * <p>
+     * Operations already submitted keep running on the previous executor, including those
+     * still waiting for an earlier operation on the same data array. If the previous executor
+     * was the default one, it is shut down once all operations submitted to it are done.
+     *
+     * @param executor The new executor, <tt>null</tt> restores the default.
+     */
+    public static void setExecutor(Executor executor) {
+        Executor previous;
+        synchronized (AsyncDataIO.class) {
+            previous = AsyncDataIO.executor;
+            AsyncDataIO.executor = executor;
+        }
+        if (previous instanceof DefaultExecutor) {
+            ((DefaultExecutor) previous).retire();
+        }
+    }
+
+    static <T> CompletableFuture<T> submit(Object key, Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Executor executor = getExecutor();
+        // a default executor retired in the meantime has been replaced already
+        while (executor instanceof DefaultExecutor && !((DefaultExecutor) executor).acquire()) {
+            executor = getExecutor();
+        }
+        Executor current = executor;
+
+        result.whenComplete((r, e) -> {
+            tails.remove(key, result);
+            if (current instanceof DefaultExecutor) {
+                ((DefaultExecutor) current).release();
+            }
+        });
+
+        // only the tail is swapped atomically, the operation may run right away on this thread
+        CompletableFuture<?> previous = tails.put(key, result);
+        if (previous == null) {
+            previous = CompletableFuture.completedFuture(null);
+        }
+        previous.whenComplete((r, e) -> {
+            try {
+                current.execute(() -> {
+                    try {
+                        result.complete(BackendLock.call(operation));
+                    } catch (Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                result.completeExceptionally(ree);
+            }
+        });
+        return result;
+    }
+
+    private static Executor createDefaultExecutor() {
+        return new DefaultExecutor(Executors.newFixedThreadPool(DEFAULT_THREADS, r -> {
+            Thread t = new Thread(r, "nix-async-io");
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+
+    // counts the operations submitted to it, so that it is shut down only after the last one
+    private static final class DefaultExecutor implements Executor {
+        private final ExecutorService pool;
+        private int operations;
+        private boolean retired;
+
+        DefaultExecutor(ExecutorService pool) {
+            this.pool = pool;
+        }
+
+        synchronized boolean acquire() {
+            if (retired) {
+                return false;
+            }
+            operations++;
+            return true;
+        }
+
+        synchronized void release() {
+            operations--;
+            shutdownIfIdle();
+        }
+
+        synchronized void retire() {
+            retired = true;
+            shutdownIfIdle();
+        }
+
+        private void shutdownIfIdle() {
+            if (retired && operations == 0) {
+                pool.shutdown();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            pool.execute(command);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.g_node.nix;
+
+/**
+ * <h1>Axis</h1>
+ * A view on the positions of a {@link SampledDimension} or a {@link RangeDimension}
+ * that is evaluated in Java.
+ * <p>
+ * The view is a snapshot taken when it is created: positions of a sampled dimension are
+ * computed from its offset and sampling interval, the ticks of a range dimension are read once.
+ * Later changes to the dimension are not reflected. Windows of the axis can be filled into an
+ * existing array, thus no native call and no allocation is needed per window.
+ * <pre><code>
+ *     Axis axis = dimension.getAxisView();
+ *     double[] window = new double[1024];
+ *     axis.fill(window, axis.indexOf(start), window.length);
+ * </code></pre>
+ *
+ * @see SampledDimension#getAxisView()
+ * @see RangeDimension#getAxisView()
+ */
+public interface Axis {
+
+    /**
+     * Returns the position at a given index.
+     *
+     * @param index The index.
+     * @return The position.
+     */
+    double positionAt(long index);
+
+    /**
+     * Returns the index of a given position, with the same rules as
+     * {@link SampledDimension#getIndexOf(double)} and {@link RangeDimension#getIndexOf(double)}.
+     *
+     * @param position The position.
+     * @return The index.
+     */
+    long indexOf(double position);
+
+    /**
+     * Write a number of consecutive positions into an array.
+     *
+     * @param dst        The array, starting at element 0.
+     * @param startIndex The index of the first position.
+     * @param count      The number of positions.
+     */
+    void fill(double[] dst, long startIndex, int count);
+}
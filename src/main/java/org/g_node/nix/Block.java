@@ -8,6 +8,7 @@ import org.g_node.nix.base.EntityWithMetadata;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * <h1>Block</h1>
@@ -59,7 +60,7 @@ import java.util.function.Predicate;
  */
 
 @Properties(value = {
-        @Platform(include = {"<nix/Block.hpp>"}),
+        @Platform(include = {"<nix/Block.hpp>", "entityfilterhelper.hpp"}),
         @Platform(value = "linux", link = BuildLibs.NIX_1, preload = BuildLibs.HDF5_7),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
         @Platform(value = "windows",
@@ -91,15 +92,19 @@ public class Block extends EntityWithMetadata {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the block
      *
      * @return ID string.
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -111,7 +116,7 @@ public class Block extends EntityWithMetadata {
      * @return The creation date of the block.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -137,10 +142,16 @@ public class Block extends EntityWithMetadata {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -151,6 +162,7 @@ public class Block extends EntityWithMetadata {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     /**
@@ -172,15 +184,19 @@ public class Block extends EntityWithMetadata {
     @StdString
     String getType();
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the block.
      *
      * @return The name of the block.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -233,7 +249,7 @@ public class Block extends EntityWithMetadata {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     /**
@@ -320,7 +336,7 @@ public class Block extends EntityWithMetadata {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     private native
@@ -340,7 +356,7 @@ public class Block extends EntityWithMetadata {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     /**
@@ -364,7 +380,7 @@ public class Block extends EntityWithMetadata {
      * @see Source
      */
     public List<Source> getSources() {
-        return sources().getSources();
+        return track(sources().getSources());
     }
 
     /**
@@ -387,6 +403,18 @@ public class Block extends EntityWithMetadata {
         return result;
     }
 
+    /**
+     * Stream the sources of this block.
+     * <p>
+     * The sources are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the sources.
+     * @see Source
+     */
+    public Stream<Source> getSourceStream() {
+        return ListBuilder.stream(this::getSourceCount, this::getSource);
+    }
+
     /**
      * Get all sources in this block recursively.
      * <p>
@@ -477,7 +505,7 @@ public class Block extends EntityWithMetadata {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     /**
@@ -547,7 +575,7 @@ public class Block extends EntityWithMetadata {
         Group source = fetchGroup(nameOrId);
         if (source.isNone())
             return null;
-        return source;
+        return track(source);
     }
 
     @ByVal @Name("getGroup")
@@ -564,7 +592,7 @@ public class Block extends EntityWithMetadata {
         Group source = fetchGroup(index);
         if (source.isNone())
             return null;
-        return source;
+        return track(source);
     }
 
     /**
@@ -590,7 +618,7 @@ public class Block extends EntityWithMetadata {
         Group g = makeGroup(name, type);
         if (g.isNone())
             return null;
-        return g;
+        return track(g);
     }
 
     /**
@@ -611,7 +639,19 @@ public class Block extends EntityWithMetadata {
      * @return A vector that contains all filtered groups.
      */
     public List<Group> getGroups(Predicate<Group> filter) {
-        return ListBuilder.build(this::getGroupCount, this::getGroup);
+        return ListBuilder.build(this::getGroupCount, this::getGroup, filter);
+    }
+
+    /**
+     * Stream the groups of this block.
+     * <p>
+     * The groups are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the groups.
+     * @see Group
+     */
+    public Stream<Group> getGroupStream() {
+        return ListBuilder.stream(this::getGroupCount, this::getGroup);
     }
 
     /**
@@ -681,7 +721,7 @@ public class Block extends EntityWithMetadata {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     private native
@@ -701,7 +741,7 @@ public class Block extends EntityWithMetadata {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     private native
@@ -715,7 +755,7 @@ public class Block extends EntityWithMetadata {
      * @see DataArray
      */
     public List<DataArray> getDataArrays() {
-        return dataArrays().getDataArrays();
+        return track(dataArrays().getDataArrays());
     }
 
     /**
@@ -738,6 +778,40 @@ public class Block extends EntityWithMetadata {
         return result;
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_data_arrays")
+    private static native
+    @ByVal
+    VectorUtils.DataArrayVector filterDataArrays(@Const @ByRef Block block, @StdString String type, @StdString String namePrefix,
+                                                 @StdString String metadataId, @StdString String sourceId,
+                                                 @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the data arrays of this block that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching data arrays are passed to Java.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching data arrays.
+     * @see EntityFilter
+     */
+    public List<DataArray> getDataArrays(EntityFilter filter) {
+        return track(filterDataArrays(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getDataArrays());
+    }
+
+    /**
+     * Stream the data arrays of this block.
+     * <p>
+     * The data arrays are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the data arrays.
+     * @see DataArray
+     */
+    public Stream<DataArray> getDataArrayStream() {
+        return ListBuilder.stream(this::getDataArrayCount, this::getDataArray);
+    }
+
     /**
      * Returns the number of all data arrays of the block.
      *
@@ -771,7 +845,7 @@ public class Block extends EntityWithMetadata {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     /**
@@ -847,7 +921,7 @@ public class Block extends EntityWithMetadata {
         if (tag.isNone()) {
             tag = null;
         }
-        return tag;
+        return track(tag);
     }
 
     private native
@@ -867,7 +941,7 @@ public class Block extends EntityWithMetadata {
         if (tag.isNone()) {
             tag = null;
         }
-        return tag;
+        return track(tag);
     }
 
     private native
@@ -881,7 +955,7 @@ public class Block extends EntityWithMetadata {
      * @see Tag
      */
     public List<Tag> getTags() {
-        return tags().getTags();
+        return track(tags().getTags());
     }
 
     /**
@@ -904,6 +978,40 @@ public class Block extends EntityWithMetadata {
         return result;
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_tags")
+    private static native
+    @ByVal
+    VectorUtils.TagVector filterTags(@Const @ByRef Block block, @StdString String type, @StdString String namePrefix,
+                                     @StdString String metadataId, @StdString String sourceId,
+                                     @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the tags of this block that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching tags are passed to Java.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching tags.
+     * @see EntityFilter
+     */
+    public List<Tag> getTags(EntityFilter filter) {
+        return track(filterTags(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getTags());
+    }
+
+    /**
+     * Stream the tags of this block.
+     * <p>
+     * The tags are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the tags.
+     * @see Tag
+     */
+    public Stream<Tag> getTagStream() {
+        return ListBuilder.stream(this::getTagCount, this::getTag);
+    }
+
     /**
      * Returns the number of tags within this block.
      *
@@ -933,7 +1041,7 @@ public class Block extends EntityWithMetadata {
         if (tag.isNone()) {
             tag = null;
         }
-        return tag;
+        return track(tag);
     }
 
     /**
@@ -1009,7 +1117,7 @@ public class Block extends EntityWithMetadata {
         if (multiTag.isNone()) {
             multiTag = null;
         }
-        return multiTag;
+        return track(multiTag);
     }
 
     private native
@@ -1029,7 +1137,7 @@ public class Block extends EntityWithMetadata {
         if (multiTag.isNone()) {
             multiTag = null;
         }
-        return multiTag;
+        return track(multiTag);
     }
 
     private native
@@ -1043,7 +1151,7 @@ public class Block extends EntityWithMetadata {
      * @see MultiTag
      */
     public List<MultiTag> getMultiTags() {
-        return multiTags().getMultiTags();
+        return track(multiTags().getMultiTags());
     }
 
     /**
@@ -1065,6 +1173,40 @@ public class Block extends EntityWithMetadata {
         return result;
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_multi_tags")
+    private static native
+    @ByVal
+    VectorUtils.MultiTagVector filterMultiTags(@Const @ByRef Block block, @StdString String type, @StdString String namePrefix,
+                                               @StdString String metadataId, @StdString String sourceId,
+                                               @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the multi tags of this block that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching multi tags are passed to Java.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching multi tags.
+     * @see EntityFilter
+     */
+    public List<MultiTag> getMultiTags(EntityFilter filter) {
+        return track(filterMultiTags(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getMultiTags());
+    }
+
+    /**
+     * Stream the multi tags of this block.
+     * <p>
+     * The multi tags are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the multi tags.
+     * @see MultiTag
+     */
+    public Stream<MultiTag> getMultiTagStream() {
+        return ListBuilder.stream(this::getMultiTagCount, this::getMultiTag);
+    }
+
     /**
      * Returns the number of multi tags associated with this block.
      *
@@ -1095,7 +1237,7 @@ public class Block extends EntityWithMetadata {
         if (multiTag.isNone()) {
             multiTag = null;
         }
-        return multiTag;
+        return track(multiTag);
     }
 
     /**
@@ -0,0 +1,125 @@
+package org.g_node.nix;
+
+import org.g_node.nix.util.Util;
+
+/**
+ * <h1>CalibratedDataReader</h1>
+ * Reads windows of the data of a {@link DataArray} with the calibration applied.
+ * <p>
+ * The data type, polynomial coefficients and expansion origin of the data array are read once
+ * when the reader is created. The raw data of each window is read into a scratch array in its
+ * stored type, which is kept and reused by later reads of the same or a smaller size. Hence
+ * reading many windows in a loop allocates no memory besides the arrays passed by the caller.
+ * <pre><code>
+ *     CalibratedDataReader reader = da.calibratedReader();
+ *     double[] window = new double[1000];
+ *     for (long start = 0; start &lt; length; start += 1000) {
+ *         reader.read(window, new NDSize(new long[]{ 1000 }), new NDSize(new long[]{ start }));
+ *         ...
+ *     }
+ * </code></pre>
+ * Changes of the calibration made after the reader was created are not reflected. A reader is
+ * not thread-safe.
+ *
+ * @see DataArray#calibratedReader()
+ * @see DataArray#getCalibratedData(double[], NDSize, NDSize)
+ */
+public class CalibratedDataReader {
+
+    private final DataArray array;
+    private final int dataType;
+    private final double[] coefficients;
+    private final double origin;
+
+    // scratch for the raw data, only the one of the stored type is used
+    private byte[] bytes;
+    private short[] shorts;
+    private int[] ints;
+    private long[] longs;
+    private float[] floats;
+
+    CalibratedDataReader(DataArray array) {
+        this.array = array;
+        this.dataType = array.getDataType();
+        double[] c = array.getPolynomCoefficients();
+        this.coefficients = c != null ? c : new double[0];
+        this.origin = array.getExpansionOrigin();
+    }
+
+    /**
+     * Get the polynomial coefficients used by this reader.
+     *
+     * @return The coefficients.
+     */
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * Get the expansion origin used by this reader.
+     *
+     * @return The expansion origin.
+     */
+    public double getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Read data with the calibration applied.
+     *
+     * @param data   double array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void read(double[] data, NDSize count, NDSize offset) {
+        long elements = count.getElementsProduct();
+        if (elements > data.length) {
+            throw new IllegalArgumentException("array too small for count");
+        }
+        int n = (int) elements;
+
+        switch (dataType) {
+            case DataType.Int8:
+                if (bytes == null || bytes.length < n) {
+                    bytes = new byte[n];
+                }
+                array.getData(bytes, count, offset);
+                Util.calibrate(coefficients, origin, bytes, data, n);
+                break;
+            case DataType.UInt8:
+            case DataType.Int16:
+                if (shorts == null || shorts.length < n) {
+                    shorts = new short[n];
+                }
+                array.getData(shorts, count, offset);
+                Util.calibrate(coefficients, origin, shorts, data, n);
+                break;
+            case DataType.UInt16:
+            case DataType.Int32:
+                if (ints == null || ints.length < n) {
+                    ints = new int[n];
+                }
+                array.getData(ints, count, offset);
+                Util.calibrate(coefficients, origin, ints, data, n);
+                break;
+            case DataType.UInt32:
+            case DataType.Int64:
+                if (longs == null || longs.length < n) {
+                    longs = new long[n];
+                }
+                array.getData(longs, count, offset);
+                Util.calibrate(coefficients, origin, longs, data, n);
+                break;
+            case DataType.Float:
+                if (floats == null || floats.length < n) {
+                    floats = new float[n];
+                }
+                array.getData(floats, count, offset);
+                Util.calibrate(coefficients, origin, floats, data, n);
+                break;
+            default:
+                array.getData(data, count, offset);
+                Util.calibrate(coefficients, origin, data, data, n);
+        }
+    }
+}
@@ -1,14 +1,30 @@
 package org.g_node.nix;
 
+import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.DoublePointer;
+import org.bytedeco.javacpp.FloatPointer;
+import org.bytedeco.javacpp.IntPointer;
 import org.bytedeco.javacpp.Loader;
+import org.bytedeco.javacpp.LongPointer;
+import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.javacpp.ShortPointer;
 import org.bytedeco.javacpp.annotation.*;
 import org.g_node.nix.base.EntityWithSources;
 import org.g_node.nix.internal.*;
-
+import org.g_node.nix.util.Util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 /**
@@ -91,15 +107,19 @@ public class DataArray extends EntityWithSources {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the data array.
      *
      * @return ID string.
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -111,7 +131,7 @@ public class DataArray extends EntityWithSources {
      * @return The creation date of the data array.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -137,10 +157,16 @@ public class DataArray extends EntityWithSources {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -151,6 +177,7 @@ public class DataArray extends EntityWithSources {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     /**
@@ -172,15 +199,19 @@ public class DataArray extends EntityWithSources {
     @StdString
     String getType();
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the data array.
      *
      * @return The name of the data array.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -231,7 +262,7 @@ public class DataArray extends EntityWithSources {
     Section getMetadata() {
         Section section = metadata();
         if (section.isInitialized()) {
-            return section;
+            return track(section);
         } else {
             return null;
         }
@@ -320,7 +351,7 @@ public class DataArray extends EntityWithSources {
     public Source getSource(String id) {
         Source source = fetchSource(id);
         if (source.isInitialized()) {
-            return source;
+            return track(source);
         }
         return null;
     }
@@ -341,7 +372,7 @@ public class DataArray extends EntityWithSources {
     public Source getSource(long index) {
         Source source = fetchSource(index);
         if (source.isInitialized()) {
-            return source;
+            return track(source);
         }
         return null;
     }
@@ -357,7 +388,7 @@ public class DataArray extends EntityWithSources {
      * @see Source
      */
     public List<Source> getSources() {
-        return sources().getSources();
+        return track(sources().getSources());
     }
 
     private native void sources(@Const @ByVal VectorUtils.SourceVector sources);
@@ -779,6 +810,100 @@ public class DataArray extends EntityWithSources {
                                       @Const @ByRef NDSize count,
                                       @Const @ByRef NDSize offset);
 
+    private native void getDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("void*") BytePointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void getDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("void*") ShortPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void getDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("void*") IntPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void getDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("void*") LongPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void getDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("void*") FloatPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void getDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("void*") DoublePointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void setDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("const void*") BytePointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void setDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("const void*") ShortPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void setDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("const void*") IntPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void setDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("const void*") LongPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void setDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("const void*") FloatPointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    private native void setDataDirect(@Cast("nix::DataType") int dtype,
+                                      @Cast("const void*") DoublePointer data,
+                                      @Const @ByRef NDSize count,
+                                      @Const @ByRef NDSize offset);
+
+    static void checkBuffer(Buffer data, NDSize count) {
+        if (!data.isDirect()) {
+            throw new IllegalArgumentException("buffer must be direct");
+        }
+        // single bytes have no byte order
+        if (!(data instanceof ByteBuffer) && order(data) != ByteOrder.nativeOrder()) {
+            throw new IllegalArgumentException("buffer must be in native byte order");
+        }
+        if (data.remaining() < count.getElementsProduct()) {
+            throw new IllegalArgumentException("buffer too small for count");
+        }
+    }
+
+    static void checkPointer(Pointer data, NDSize count) {
+        if (data.limit() - data.position() < count.getElementsProduct()) {
+            throw new IllegalArgumentException("pointer too small for count");
+        }
+    }
+
+    private static ByteOrder order(Buffer data) {
+        if (data instanceof ShortBuffer) {
+            return ((ShortBuffer) data).order();
+        } else if (data instanceof IntBuffer) {
+            return ((IntBuffer) data).order();
+        } else if (data instanceof LongBuffer) {
+            return ((LongBuffer) data).order();
+        } else if (data instanceof FloatBuffer) {
+            return ((FloatBuffer) data).order();
+        } else if (data instanceof DoubleBuffer) {
+            return ((DoubleBuffer) data).order();
+        }
+        throw new IllegalArgumentException("unsupported buffer type");
+    }
+
     //--------------------------------------------------
     // public getData methods
     //--------------------------------------------------
@@ -849,6 +974,319 @@ public class DataArray extends EntityWithSources {
         getDataDirect(DataType.Double, data, count, offset);
     }
 
+    /**
+     * Get stored data with the calibration applied.
+     * <p>
+     * The data is read in its stored type, or the next wider signed type for unsigned integers,
+     * and converted to double while the calibration defined by {@link #getPolynomCoefficients()}
+     * and {@link #getExpansionOrigin()} is applied. Compared to reading doubles this moves only
+     * the stored number of bytes per element out of the back-end.
+     * <p>
+     * Each call reads the calibration and allocates a scratch array for the raw data, use a
+     * {@link #calibratedReader()} to read many windows.
+     *
+     * @param data   double array
+     * @param count  dimensions
+     * @param offset offset
+     * @see Util#calibrate(double[], double, short[], double[], int)
+     */
+    public void getCalibratedData(double[] data, NDSize count, NDSize offset) {
+        new CalibratedDataReader(this).read(data, count, offset);
+    }
+
+    //--------------------------------------------------
+    // public getData methods for buffers and pointers
+    //--------------------------------------------------
+
+    /**
+     * Get stored data. Data is stored in the buffer passed.
+     * <p>
+     * The buffer must be direct, its byte order does not matter. The data is read straight into its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   byte buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(ByteBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        getDataDirect(DataType.Int8, new BytePointer(data), count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the buffer passed.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is read straight into its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   short buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(ShortBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        getDataDirect(DataType.Int16, new ShortPointer(data), count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the buffer passed.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is read straight into its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   int buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(IntBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        getDataDirect(DataType.Int32, new IntPointer(data), count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the buffer passed.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is read straight into its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   long buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(LongBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        getDataDirect(DataType.Int64, new LongPointer(data), count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the buffer passed.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is read straight into its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   float buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(FloatBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        getDataDirect(DataType.Float, new FloatPointer(data), count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the buffer passed.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is read straight into its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   double buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(DoubleBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        getDataDirect(DataType.Double, new DoublePointer(data), count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the native memory of the pointer
+     * passed, starting at its current position. The elements
+     * between the position and the limit of the pointer must hold the count.
+     *
+     * @param data   byte pointer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(BytePointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        getDataDirect(DataType.Int8, data, count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the native memory of the pointer
+     * passed, starting at its current position. The elements
+     * between the position and the limit of the pointer must hold the count.
+     *
+     * @param data   short pointer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(ShortPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        getDataDirect(DataType.Int16, data, count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the native memory of the pointer
+     * passed, starting at its current position. The elements
+     * between the position and the limit of the pointer must hold the count.
+     *
+     * @param data   int pointer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(IntPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        getDataDirect(DataType.Int32, data, count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the native memory of the pointer
+     * passed, starting at its current position. The elements
+     * between the position and the limit of the pointer must hold the count.
+     *
+     * @param data   long pointer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(LongPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        getDataDirect(DataType.Int64, data, count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the native memory of the pointer
+     * passed, starting at its current position. The elements
+     * between the position and the limit of the pointer must hold the count.
+     *
+     * @param data   float pointer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(FloatPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        getDataDirect(DataType.Float, data, count, offset);
+    }
+
+    /**
+     * Get stored data. Data is stored in the native memory of the pointer
+     * passed, starting at its current position. The elements
+     * between the position and the limit of the pointer must hold the count.
+     *
+     * @param data   double pointer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(DoublePointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        getDataDirect(DataType.Double, data, count, offset);
+    }
+
+    /**
+     * Read stored data into a new read-only buffer.
+     * <p>
+     * The data is read with a single call into off-heap memory in native byte order.
+     * Random access on the returned buffer does not go through the back-end anymore,
+     * i.e. it is a snapshot of the data at the time of the call.
+     *
+     * @param count  dimensions
+     * @param offset offset
+     * @return A read-only direct buffer holding the data.
+     */
+    public DoubleBuffer getDataBuffer(NDSize count, NDSize offset) {
+        long elements = count.getElementsProduct();
+        if (elements > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException("count too big for a single buffer");
+        }
+        DoubleBuffer data = ByteBuffer.allocateDirect((int) elements * 8)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+        getData(data, count, offset);
+        return data.asReadOnlyBuffer();
+    }
+
+    /**
+     * Read all stored data into a new read-only buffer.
+     *
+     * @return A read-only direct buffer holding the data.
+     * @see DataArray#getDataBuffer(NDSize, NDSize)
+     */
+    public DoubleBuffer getDataBuffer() {
+        return getDataBuffer(getDataExtent(), new NDSize());
+    }
+
+    /**
+     * Iterate over the stored data in chunks of a fixed shape.
+     *
+     * @param chunkShape The number of elements per dimension of each chunk.
+     * @return An iterator over the chunks.
+     * @see DataChunkIterator
+     */
+    public DataChunkIterator chunks(NDSize chunkShape) {
+        return chunks(chunkShape, false);
+    }
+
+    /**
+     * Iterate over the stored data in chunks of a fixed shape.
+     * <p>
+     * If prefetching is enabled the next chunk is read on a background thread while
+     * the current chunk is processed. The iterator should be closed if it is not
+     * exhausted.
+     *
+     * @param chunkShape The number of elements per dimension of each chunk.
+     * @param prefetch   Whether to read the next chunk in the background.
+     * @return An iterator over the chunks.
+     * @see DataChunkIterator
+     */
+    public DataChunkIterator chunks(NDSize chunkShape, boolean prefetch) {
+        return new DataChunkIterator(this, chunkShape, null, null, prefetch);
+    }
+
+    /**
+     * Iterate over a region of the stored data in chunks of a fixed shape.
+     * <p>
+     * The offsets of the chunks are absolute, i.e. the first chunk starts at the
+     * offset of the region.
+     *
+     * @param chunkShape The number of elements per dimension of each chunk.
+     * @param offset     The offset of the region.
+     * @param count      The number of elements per dimension of the region.
+     * @param prefetch   Whether to read the next chunk in the background.
+     * @return An iterator over the chunks.
+     * @see DataChunkIterator
+     */
+    public DataChunkIterator chunks(NDSize chunkShape, NDSize offset, NDSize count, boolean prefetch) {
+        return new DataChunkIterator(this, chunkShape, offset, count, prefetch);
+    }
+
+    /**
+     * Create a reader for data with the calibration applied, which reads the calibration once
+     * and reuses its scratch memory for all reads.
+     *
+     * @return The reader.
+     * @see CalibratedDataReader
+     */
+    public CalibratedDataReader calibratedReader() {
+        return new CalibratedDataReader(this);
+    }
+
+    /**
+     * Create an appender that adds rows along the first dimension.
+     *
+     * @param batchRows The number of rows written at once.
+     * @return The appender.
+     * @see DataArrayAppender
+     */
+    public DataArrayAppender appender(int batchRows) {
+        return new DataArrayAppender(this, batchRows);
+    }
+
+    /**
+     * Create an appender that adds rows along the first dimension, writing
+     * about {@link DataArrayAppender#DEFAULT_BATCH_ELEMENTS} elements at once.
+     *
+     * @return The appender.
+     * @see DataArrayAppender
+     */
+    public DataArrayAppender appender() {
+        long[] extent = getDataExtent().getLongData();
+        long rowSize = 1;
+        for (int i = 1; i < extent.length; i++) {
+            rowSize *= extent[i];
+        }
+        return appender((int) Math.max(1, DataArrayAppender.DEFAULT_BATCH_ELEMENTS / Math.max(1, rowSize)));
+    }
+
     //--------------------------------------------------
     // public setData methods
     //--------------------------------------------------
@@ -919,6 +1357,267 @@ public class DataArray extends EntityWithSources {
         setDataDirect(DataType.Double, data, count, offset);
     }
 
+    //--------------------------------------------------
+    // public setData methods for buffers and pointers
+    //--------------------------------------------------
+
+    /**
+     * Set byte buffer data.
+     * <p>
+     * The buffer must be direct, its byte order does not matter. The data is written straight from its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(ByteBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        setDataDirect(DataType.Int8, new BytePointer(data), count, offset);
+    }
+
+    /**
+     * Set short buffer data.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is written straight from its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(ShortBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        setDataDirect(DataType.Int16, new ShortPointer(data), count, offset);
+    }
+
+    /**
+     * Set int buffer data.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is written straight from its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(IntBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        setDataDirect(DataType.Int32, new IntPointer(data), count, offset);
+    }
+
+    /**
+     * Set long buffer data.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is written straight from its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(LongBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        setDataDirect(DataType.Int64, new LongPointer(data), count, offset);
+    }
+
+    /**
+     * Set float buffer data.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is written straight from its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(FloatBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        setDataDirect(DataType.Float, new FloatPointer(data), count, offset);
+    }
+
+    /**
+     * Set double buffer data.
+     * <p>
+     * The buffer must be direct and in native byte order. The data is written straight from its memory
+     * starting at the current position of the buffer, without an intermediate copy.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(DoubleBuffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        setDataDirect(DataType.Double, new DoublePointer(data), count, offset);
+    }
+
+    /**
+     * Set byte data from the native memory of the pointer passed, starting
+     * at its current position. The elements between the position and the limit of the pointer
+     * must hold the count.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(BytePointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        setDataDirect(DataType.Int8, data, count, offset);
+    }
+
+    /**
+     * Set short data from the native memory of the pointer passed, starting
+     * at its current position. The elements between the position and the limit of the pointer
+     * must hold the count.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(ShortPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        setDataDirect(DataType.Int16, data, count, offset);
+    }
+
+    /**
+     * Set int data from the native memory of the pointer passed, starting
+     * at its current position. The elements between the position and the limit of the pointer
+     * must hold the count.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(IntPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        setDataDirect(DataType.Int32, data, count, offset);
+    }
+
+    /**
+     * Set long data from the native memory of the pointer passed, starting
+     * at its current position. The elements between the position and the limit of the pointer
+     * must hold the count.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(LongPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        setDataDirect(DataType.Int64, data, count, offset);
+    }
+
+    /**
+     * Set float data from the native memory of the pointer passed, starting
+     * at its current position. The elements between the position and the limit of the pointer
+     * must hold the count.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(FloatPointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        setDataDirect(DataType.Float, data, count, offset);
+    }
+
+    /**
+     * Set double data from the native memory of the pointer passed, starting
+     * at its current position. The elements between the position and the limit of the pointer
+     * must hold the count.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(DoublePointer data, NDSize count, NDSize offset) {
+        checkPointer(data, count);
+        setDataDirect(DataType.Double, data, count, offset);
+    }
+
+    //--------------------------------------------------
+    // asynchronous data access
+    //--------------------------------------------------
+
+    private void getData(Buffer data, NDSize count, NDSize offset) {
+        if (data instanceof DoubleBuffer) {
+            getData((DoubleBuffer) data, count, offset);
+        } else if (data instanceof FloatBuffer) {
+            getData((FloatBuffer) data, count, offset);
+        } else if (data instanceof LongBuffer) {
+            getData((LongBuffer) data, count, offset);
+        } else if (data instanceof IntBuffer) {
+            getData((IntBuffer) data, count, offset);
+        } else if (data instanceof ShortBuffer) {
+            getData((ShortBuffer) data, count, offset);
+        } else if (data instanceof ByteBuffer) {
+            getData((ByteBuffer) data, count, offset);
+        } else {
+            throw new IllegalArgumentException("unsupported buffer type");
+        }
+    }
+
+    private void setData(Buffer data, NDSize count, NDSize offset) {
+        if (data instanceof DoubleBuffer) {
+            setData((DoubleBuffer) data, count, offset);
+        } else if (data instanceof FloatBuffer) {
+            setData((FloatBuffer) data, count, offset);
+        } else if (data instanceof LongBuffer) {
+            setData((LongBuffer) data, count, offset);
+        } else if (data instanceof IntBuffer) {
+            setData((IntBuffer) data, count, offset);
+        } else if (data instanceof ShortBuffer) {
+            setData((ShortBuffer) data, count, offset);
+        } else if (data instanceof ByteBuffer) {
+            setData((ByteBuffer) data, count, offset);
+        } else {
+            throw new IllegalArgumentException("unsupported buffer type");
+        }
+    }
+
+    /**
+     * Get stored data asynchronously. Data is stored in the direct buffer passed.
+     * <p>
+     * The read runs on the executor of {@link AsyncDataIO}, after all asynchronous
+     * operations submitted before through this object. Buffer, count and offset
+     * must not be modified until the returned future is complete.
+     *
+     * @param data   direct buffer
+     * @param count  dimensions
+     * @param offset offset
+     * @param <T>    The type of the buffer.
+     * @return A future completed with the buffer once the data was read.
+     * @see AsyncDataIO
+     */
+    public <T extends Buffer> CompletableFuture<T> getDataAsync(T data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        return AsyncDataIO.submit(this, () -> {
+            getData(data, count, offset);
+            return data;
+        });
+    }
+
+    /**
+     * Set data from a direct buffer asynchronously.
+     * <p>
+     * The write runs on the executor of {@link AsyncDataIO}, after all asynchronous
+     * operations submitted before through this object. Buffer, count and offset
+     * must not be modified until the returned future is complete.
+     *
+     * @param data   direct buffer
+     * @param count  dimensions
+     * @param offset offset
+     * @return A future completed once the data was written.
+     * @see AsyncDataIO
+     */
+    public CompletableFuture<Void> setDataAsync(Buffer data, NDSize count, NDSize offset) {
+        checkBuffer(data, count);
+        return AsyncDataIO.submit(this, () -> {
+            setData(data, count, offset);
+            return null;
+        });
+    }
+
     //--------------------------------------------------
     // Overrides
     //--------------------------------------------------
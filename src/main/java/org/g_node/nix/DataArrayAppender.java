@@ -0,0 +1,280 @@
+package org.g_node.nix;
+
+import org.g_node.nix.base.NativeScope;
+
+import java.lang.reflect.Array;
+
+/**
+ * <h1>DataArrayAppender</h1>
+ * Appends data along the first dimension of a {@link DataArray}.
+ * <p>
+ * Rows, i.e. the elements with the same index in the first dimension, are collected in a
+ * batch and written with a single call once the batch is full. The extent of the first
+ * dimension is grown in geometric steps, thus resizing the data is rare even if many small
+ * blocks are appended. When the appender is closed pending rows are written and the extent
+ * is trimmed to the number of rows actually appended.
+ * <p>
+ * The batch has the element type of the appended arrays, which should match the data type of
+ * the data array to avoid conversions. Appending an array of another type writes the pending
+ * rows first.
+ * <pre><code>
+ *     DataArray da = block.createDataArray("signal", "nix.sampled", DataType.Int16,
+ *                                          new NDSize(new int[]{ 0, 384 }));
+ *     try (DataArrayAppender appender = da.appender()) {
+ *         while (acquiring) {
+ *             short[] samples = ...; // n rows of 384 values each
+ *             appender.append(samples, 0, n);
+ *         }
+ *     }
+ * </code></pre>
+ * An appender is not thread-safe and the extent of the data array must not be changed
+ * otherwise while it is open.
+ *
+ * @see DataArray#appender()
+ */
+public class DataArrayAppender implements AutoCloseable {
+
+    /**
+     * The number of elements of a batch if no batch size is given.
+     */
+    public static final int DEFAULT_BATCH_ELEMENTS = 1 << 17;
+
+    private final DataArray array;
+    private final long[] extent;
+    private final int rowSize;
+    private final int batchRows;
+
+    // primitive array of the type appended last, allocated on the first append
+    private Object batch;
+
+    // reused by all writes, only the first dimension changes
+    private final NDSize nextExtent;
+    private final NDSize nextOffset;
+
+    private int pending;
+    private long written;
+    private long capacity;
+    private boolean closed;
+
+    DataArrayAppender(DataArray array, int batchRows) {
+        if (batchRows <= 0) {
+            throw new IllegalArgumentException("batch rows must be positive");
+        }
+
+        this.array = array;
+        this.extent = array.getDataExtent().getLongData();
+        if (extent.length == 0) {
+            throw new IllegalArgumentException("data array has no dimensions");
+        }
+
+        long size = 1;
+        for (int i = 1; i < extent.length; i++) {
+            size *= extent[i];
+        }
+        if (size == 0 || size * batchRows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid row size");
+        }
+
+        this.rowSize = (int) size;
+        this.batchRows = batchRows;
+        this.written = extent[0];
+        this.capacity = extent[0];
+        this.nextExtent = NativeScope.detach(new NDSize(extent.length)).set(extent);
+        this.nextOffset = NativeScope.detach(new NDSize(extent.length, 0));
+    }
+
+    /**
+     * Number of elements of one row, i.e. the product of all but the first extent.
+     *
+     * @return The row size.
+     */
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    /**
+     * Number of rows of the data array including rows that are not written yet.
+     *
+     * @return The row count.
+     */
+    public long getRowCount() {
+        return written + pending;
+    }
+
+    /**
+     * Append rows.
+     *
+     * @param data   The data in row-major order.
+     * @param offset The index of the first element in data.
+     * @param rows   The number of rows to append.
+     */
+    public void append(short[] data, int offset, int rows) {
+        append(data, data.length, offset, rows);
+    }
+
+    /**
+     * Append rows. The length of data must be a multiple of the row size.
+     *
+     * @param data The data in row-major order.
+     */
+    public void append(short[] data) {
+        append(data, 0, rows(data.length));
+    }
+
+    /**
+     * Append rows.
+     *
+     * @param data   The data in row-major order.
+     * @param offset The index of the first element in data.
+     * @param rows   The number of rows to append.
+     */
+    public void append(int[] data, int offset, int rows) {
+        append(data, data.length, offset, rows);
+    }
+
+    /**
+     * Append rows. The length of data must be a multiple of the row size.
+     *
+     * @param data The data in row-major order.
+     */
+    public void append(int[] data) {
+        append(data, 0, rows(data.length));
+    }
+
+    /**
+     * Append rows.
+     *
+     * @param data   The data in row-major order.
+     * @param offset The index of the first element in data.
+     * @param rows   The number of rows to append.
+     */
+    public void append(float[] data, int offset, int rows) {
+        append(data, data.length, offset, rows);
+    }
+
+    /**
+     * Append rows. The length of data must be a multiple of the row size.
+     *
+     * @param data The data in row-major order.
+     */
+    public void append(float[] data) {
+        append(data, 0, rows(data.length));
+    }
+
+    /**
+     * Append rows.
+     *
+     * @param data   The data in row-major order.
+     * @param offset The index of the first element in data.
+     * @param rows   The number of rows to append.
+     */
+    public void append(double[] data, int offset, int rows) {
+        append(data, data.length, offset, rows);
+    }
+
+    /**
+     * Append rows. The length of data must be a multiple of the row size.
+     *
+     * @param data The data in row-major order.
+     */
+    public void append(double[] data) {
+        append(data, 0, rows(data.length));
+    }
+
+    /**
+     * Write all pending rows to the data array.
+     */
+    public void flush() {
+        if (pending == 0) {
+            return;
+        }
+
+        reserve(written + pending);
+        write(batch, shape(pending), offset(written));
+        written += pending;
+        pending = 0;
+    }
+
+    /**
+     * Write all pending rows and trim the extent to the number of rows.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+            if (capacity != written) {
+                array.setDataExtent(shape(written));
+                capacity = written;
+            }
+        } finally {
+            closed = true;
+            nextExtent.close();
+            nextOffset.close();
+        }
+    }
+
+    private int rows(int length) {
+        if (length % rowSize != 0) {
+            throw new IllegalArgumentException("data length must be a multiple of the row size");
+        }
+        return length / rowSize;
+    }
+
+    private void append(Object data, int length, int offset, int rows) {
+        if (closed) {
+            throw new IllegalStateException("appender is closed");
+        }
+        if (rows < 0 || offset < 0 || (long) rows * rowSize > length - offset) {
+            throw new IllegalArgumentException("data too small for rows");
+        }
+
+        if (batch == null || batch.getClass() != data.getClass()) {
+            flush();
+            batch = Array.newInstance(data.getClass().getComponentType(), rowSize * batchRows);
+        }
+
+        while (rows > 0) {
+            int n = Math.min(rows, batchRows - pending);
+            System.arraycopy(data, offset, batch, pending * rowSize, n * rowSize);
+            pending += n;
+            offset += n * rowSize;
+            rows -= n;
+
+            if (pending == batchRows) {
+                flush();
+            }
+        }
+    }
+
+    private void write(Object data, NDSize count, NDSize offset) {
+        if (data instanceof short[]) {
+            array.setData((short[]) data, count, offset);
+        } else if (data instanceof int[]) {
+            array.setData((int[]) data, count, offset);
+        } else if (data instanceof float[]) {
+            array.setData((float[]) data, count, offset);
+        } else {
+            array.setData((double[]) data, count, offset);
+        }
+    }
+
+    private void reserve(long rows) {
+        if (rows <= capacity) {
+            return;
+        }
+        long grown = Math.max(rows, Math.max(capacity * 2, batchRows));
+        array.setDataExtent(shape(grown));
+        capacity = grown;
+    }
+
+    private NDSize shape(long rows) {
+        return nextExtent.set(0, rows);
+    }
+
+    private NDSize offset(long row) {
+        return nextOffset.set(0, row);
+    }
+}
@@ -0,0 +1,68 @@
+package org.g_node.nix;
+
+/**
+ * <h1>DataChunk</h1>
+ * A block of data read from a {@link DataArray} by a {@link DataChunkIterator}.
+ * <p>
+ * The data buffer of a chunk is reused by the iterator, the chunk is therefore only
+ * valid until the next call of {@link DataChunkIterator#next()}.
+ *
+ * @see DataChunkIterator
+ */
+public class DataChunk {
+
+    private final long[] offset;
+    private final int[] count;
+    private final double[] data;
+
+    DataChunk(long[] offset, int[] count, double[] data) {
+        this.offset = offset;
+        this.count = count;
+        this.data = data;
+    }
+
+    /**
+     * Get the offset of the chunk within the data array.
+     *
+     * @return The offset of the chunk.
+     */
+    public long[] getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the number of elements per dimension of the chunk.
+     * <p>
+     * The count equals the chunk shape except for chunks at the upper border
+     * of the data, which may be smaller.
+     *
+     * @return The number of elements per dimension.
+     */
+    public int[] getCount() {
+        return count;
+    }
+
+    /**
+     * Get the total number of elements in the chunk.
+     *
+     * @return The number of valid elements in {@link DataChunk#getData()}.
+     */
+    public int getSize() {
+        int size = 1;
+        for (int c : count) {
+            size *= c;
+        }
+        return size;
+    }
+
+    /**
+     * Get the data of the chunk.
+     * <p>
+     * Only the first {@link DataChunk#getSize()} elements of the buffer are valid.
+     *
+     * @return The data buffer of the chunk.
+     */
+    public double[] getData() {
+        return data;
+    }
+}
@@ -0,0 +1,239 @@
+package org.g_node.nix;
+
+import org.g_node.nix.base.NativeScope;
+import org.g_node.nix.internal.BackendLock;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>DataChunkIterator</h1>
+ * Iterates over the data of a {@link DataArray} in blocks of a fixed shape.
+ * <p>
+ * The chunks are visited in row-major order of their offsets. Only one buffer of the
+ * size of the chunk shape is used for all chunks, thus the memory needed for a scan does
+ * not depend on the size of the data array. If prefetching is enabled the next chunk
+ * is read on a background thread while the current one is processed, using a second buffer.
+ * All calls into the back-end hold the {@link BackendLock}, other threads that use the
+ * back-end in the meantime have to hold it as well. The background thread is stopped
+ * once the iterator is exhausted or closed.
+ * <pre><code>
+ *     DataArray da = ...;
+ *     try (DataChunkIterator it = da.chunks(new NDSize(new int[]{ 1000, 16 }))) {
+ *         while (it.hasNext()) {
+ *             DataChunk chunk = it.next();
+ *             double[] data = chunk.getData();
+ *             ...
+ *         }
+ *     }
+ * </code></pre>
+ *
+ * @see DataArray#chunks(NDSize)
+ * @see DataArray#chunks(NDSize, NDSize, NDSize, boolean)
+ * @see DataChunk
+ */
+public class DataChunkIterator implements Iterator<DataChunk>, AutoCloseable {
+
+    private final DataArray array;
+    private final long[] origin;
+    private final long[] end;
+    private final int[] shape;
+    private final long[] position;
+    private final double[][] buffers;
+    private final ExecutorService prefetcher;
+
+    // reused by all reads, which never overlap
+    private final NDSize count;
+    private final NDSize offset;
+    private final long[] values;
+
+    private Future<DataChunk> pending;
+    private boolean done;
+    private boolean released;
+    private int current;
+
+    DataChunkIterator(DataArray array, NDSize chunkShape, NDSize regionOffset, NDSize regionCount, boolean prefetch) {
+        this.array = array;
+        long[] extent = BackendLock.call(() -> array.getDataExtent().getLongData());
+        long[] chunk = BackendLock.call(chunkShape::getLongData);
+        int rank = extent.length;
+
+        if (chunk.length != rank) {
+            throw new IllegalArgumentException("chunk shape must match the rank of the data");
+        }
+
+        this.origin = regionOffset != null ? BackendLock.call(regionOffset::getLongData) : new long[rank];
+        this.end = regionCount != null ? BackendLock.call(regionCount::getLongData) : extent.clone();
+        if (origin.length != rank || end.length != rank) {
+            throw new IllegalArgumentException("region must match the rank of the data");
+        }
+        if (regionOffset != null || regionCount != null) {
+            for (int i = 0; i < rank; i++) {
+                if (regionCount != null) {
+                    end[i] += origin[i];
+                }
+                if (origin[i] < 0 || end[i] > extent[i]) {
+                    throw new IllegalArgumentException("region exceeds the data extent");
+                }
+            }
+        }
+
+        this.shape = new int[rank];
+        long elements = 1;
+        for (int i = 0; i < rank; i++) {
+            if (chunk[i] <= 0) {
+                throw new IllegalArgumentException("chunk shape must be positive");
+            }
+            elements *= chunk[i];
+            if (elements > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("chunk shape too big");
+            }
+            shape[i] = (int) chunk[i];
+        }
+
+        this.position = origin.clone();
+        this.count = BackendLock.call(() -> NativeScope.detach(new NDSize(rank)));
+        this.offset = BackendLock.call(() -> NativeScope.detach(new NDSize(rank)));
+        this.values = new long[rank];
+        for (int i = 0; i < rank; i++) {
+            done |= end[i] <= origin[i];
+        }
+
+        this.buffers = new double[prefetch ? 2 : 1][];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new double[(int) elements];
+        }
+
+        if (prefetch) {
+            prefetcher = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "nix-chunk-prefetch");
+                t.setDaemon(true);
+                return t;
+            });
+            schedule();
+        } else {
+            prefetcher = null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending != null || !done) {
+            return true;
+        }
+        release();
+        return false;
+    }
+
+    @Override
+    public DataChunk next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        if (prefetcher == null) {
+            return load(plan(buffers[0]));
+        }
+
+        DataChunk chunk;
+        try {
+            chunk = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+
+        pending = null;
+        schedule();
+        return chunk;
+    }
+
+    /**
+     * Stop prefetching. Chunks returned before stay valid.
+     */
+    @Override
+    public void close() {
+        pending = null;
+        done = true;
+        release();
+    }
+
+    // stops the prefetch thread and frees the reused sizes once no read is running anymore
+    private void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+
+        if (prefetcher != null) {
+            prefetcher.shutdownNow();
+            try {
+                prefetcher.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // a read may still use the sizes, leave them to the garbage collector
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        BackendLock.run(() -> {
+            count.close();
+            offset.close();
+        });
+    }
+
+    private void schedule() {
+        if (done) {
+            return;
+        }
+        current = (current + 1) % buffers.length;
+        DataChunk chunk = plan(buffers[current]);
+        pending = prefetcher.submit(() -> load(chunk));
+    }
+
+    private DataChunk plan(double[] buffer) {
+        int rank = position.length;
+        long[] chunkOffset = position.clone();
+        int[] chunkCount = new int[rank];
+        for (int i = 0; i < rank; i++) {
+            chunkCount[i] = (int) Math.min(shape[i], end[i] - chunkOffset[i]);
+        }
+
+        done = advance();
+        return new DataChunk(chunkOffset, chunkCount, buffer);
+    }
+
+    private DataChunk load(DataChunk chunk) {
+        BackendLock.run(() -> {
+            int[] dims = chunk.getCount();
+            for (int i = 0; i < dims.length; i++) {
+                values[i] = dims[i];
+            }
+            count.set(values);
+            offset.set(chunk.getOffset());
+            array.getData(chunk.getData(), count, offset);
+        });
+        return chunk;
+    }
+
+    private boolean advance() {
+        for (int i = position.length - 1; i >= 0; i--) {
+            position[i] += shape[i];
+            if (position[i] < end[i]) {
+                return false;
+            }
+            position[i] = origin[i];
+        }
+        return true;
+    }
+}
@@ -1,12 +1,33 @@
 package org.g_node.nix;
 
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.DoublePointer;
+import org.bytedeco.javacpp.FloatPointer;
+import org.bytedeco.javacpp.IntPointer;
 import org.bytedeco.javacpp.Loader;
+import org.bytedeco.javacpp.LongPointer;
 import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.javacpp.ShortPointer;
 import org.bytedeco.javacpp.annotation.*;
+import org.g_node.nix.base.NativeScope;
 import org.g_node.nix.internal.BuildLibs;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
 /**
  * <h1>DataView</h1>
+ * A view on a region of a {@link DataArray}.
+ * <p>
+ * Data views are returned by {@link org.g_node.nix.util.DataAccess#taggedData(Tag, long)} and
+ * the related functions. Reading from and writing to a view is done relative to the
+ * region, i.e. an offset of zero addresses the first element of the region.
+ *
+ * @see DataArray
  */
 
 @Properties(value = {
@@ -32,10 +53,19 @@ public class DataView extends Pointer {
      */
     public DataView(@ByVal DataArray da, @ByVal NDSize count, @ByVal NDSize offset) {
         allocate(da, count, offset);
+        NativeScope.attach(this);
     }
 
     private native void allocate(@ByVal DataArray da, @ByVal NDSize count, @ByVal NDSize offset);
 
+    /**
+     * Release the native object. The object must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        deallocate();
+    }
+
     // the DataIO interface implementation
 
     /**
@@ -70,4 +100,480 @@ public class DataView extends Pointer {
     @ByVal
     @Cast("nix::DataType")
     int getDataType();
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") byte[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") short[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") int[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") long[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") float[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") double[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") BytePointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") ShortPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") IntPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") LongPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") FloatPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioRead(@Cast("nix::DataType") int dtype,
+                               @Cast("void*") DoublePointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") byte[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") short[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") int[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") long[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") float[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") double[] data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") BytePointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") ShortPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") IntPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") LongPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") FloatPointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    private native void ioWrite(@Cast("nix::DataType") int dtype,
+                               @Cast("const void*") DoublePointer data,
+                               @Const @ByRef NDSize count,
+                               @Const @ByRef NDSize offset);
+
+    //--------------------------------------------------
+    // public getData methods
+    //--------------------------------------------------
+
+    /**
+     * Get data of the view. Data is stored in the array passed.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   byte array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(byte[] data, NDSize count, NDSize offset) {
+        ioRead(DataType.Int8, data, count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the array passed.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   short array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(short[] data, NDSize count, NDSize offset) {
+        ioRead(DataType.Int16, data, count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the array passed.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   int array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(int[] data, NDSize count, NDSize offset) {
+        ioRead(DataType.Int32, data, count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the array passed.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   long array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(long[] data, NDSize count, NDSize offset) {
+        ioRead(DataType.Int64, data, count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the array passed.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   float array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(float[] data, NDSize count, NDSize offset) {
+        ioRead(DataType.Float, data, count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the array passed.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   double array
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(double[] data, NDSize count, NDSize offset) {
+        ioRead(DataType.Double, data, count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the buffer passed.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct, its
+     * byte order does not matter, the data is read straight into its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   byte buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(ByteBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioRead(DataType.Int8, new BytePointer(data), count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the buffer passed.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is read straight into its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   short buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(ShortBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioRead(DataType.Int16, new ShortPointer(data), count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the buffer passed.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is read straight into its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   int buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(IntBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioRead(DataType.Int32, new IntPointer(data), count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the buffer passed.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is read straight into its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   long buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(LongBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioRead(DataType.Int64, new LongPointer(data), count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the buffer passed.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is read straight into its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   float buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(FloatBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioRead(DataType.Float, new FloatPointer(data), count, offset);
+    }
+
+    /**
+     * Get data of the view. Data is stored in the buffer passed.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is read straight into its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   double buffer
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void getData(DoubleBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioRead(DataType.Double, new DoublePointer(data), count, offset);
+    }
+
+    //--------------------------------------------------
+    // public setData methods
+    //--------------------------------------------------
+
+    /**
+     * Set byte array data of the view.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(byte[] data, NDSize count, NDSize offset) {
+        ioWrite(DataType.Int8, data, count, offset);
+    }
+
+    /**
+     * Set short array data of the view.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(short[] data, NDSize count, NDSize offset) {
+        ioWrite(DataType.Int16, data, count, offset);
+    }
+
+    /**
+     * Set int array data of the view.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(int[] data, NDSize count, NDSize offset) {
+        ioWrite(DataType.Int32, data, count, offset);
+    }
+
+    /**
+     * Set long array data of the view.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(long[] data, NDSize count, NDSize offset) {
+        ioWrite(DataType.Int64, data, count, offset);
+    }
+
+    /**
+     * Set float array data of the view.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(float[] data, NDSize count, NDSize offset) {
+        ioWrite(DataType.Float, data, count, offset);
+    }
+
+    /**
+     * Set double array data of the view.
+     * <p>
+     * Count and offset are relative to the view.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(double[] data, NDSize count, NDSize offset) {
+        ioWrite(DataType.Double, data, count, offset);
+    }
+
+    /**
+     * Set byte buffer data of the view.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct, its
+     * byte order does not matter, the data is written straight from its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(ByteBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioWrite(DataType.Int8, new BytePointer(data), count, offset);
+    }
+
+    /**
+     * Set short buffer data of the view.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is written straight from its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(ShortBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioWrite(DataType.Int16, new ShortPointer(data), count, offset);
+    }
+
+    /**
+     * Set int buffer data of the view.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is written straight from its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(IntBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioWrite(DataType.Int32, new IntPointer(data), count, offset);
+    }
+
+    /**
+     * Set long buffer data of the view.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is written straight from its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(LongBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioWrite(DataType.Int64, new LongPointer(data), count, offset);
+    }
+
+    /**
+     * Set float buffer data of the view.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is written straight from its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(FloatBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioWrite(DataType.Float, new FloatPointer(data), count, offset);
+    }
+
+    /**
+     * Set double buffer data of the view.
+     * <p>
+     * Count and offset are relative to the view. The buffer must be direct and in
+     * native byte order, the data is written straight from its memory starting at the
+     * current position of the buffer.
+     *
+     * @param data   data
+     * @param count  dimensions
+     * @param offset offset
+     */
+    public void setData(DoubleBuffer data, NDSize count, NDSize offset) {
+        DataArray.checkBuffer(data, count);
+        ioWrite(DataType.Double, new DoublePointer(data), count, offset);
+    }
 }
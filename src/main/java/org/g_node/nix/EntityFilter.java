@@ -0,0 +1,159 @@
+package org.g_node.nix;
+
+import org.g_node.nix.internal.DateUtils;
+
+import java.util.Date;
+
+/**
+ * <h1>EntityFilter</h1>
+ * Declarative filter that is evaluated by the back-end.
+ * <p>
+ * In contrast to the filter functions of type {@link java.util.function.Predicate},
+ * an entity filter is applied before the entities are passed to Java, thus only matching
+ * entities are created. All criteria that are set must match.
+ * <pre><code>
+ *     Block b = ...;
+ *     List&lt;DataArray&gt; arrays = b.getDataArrays(new EntityFilter()
+ *             .type("nix.sampled")
+ *             .namePrefix("channel_")
+ *             .source(electrode));
+ * </code></pre>
+ * Sections have neither metadata nor sources, filtering them by metadata or source
+ * is not supported.
+ *
+ * @see Block#getDataArrays(EntityFilter)
+ * @see File#getSections(EntityFilter)
+ */
+public final class EntityFilter {
+
+    private String type = "";
+    private String namePrefix = "";
+    private String metadataId = "";
+    private String sourceId = "";
+    private long createdFrom = Long.MIN_VALUE;
+    private long createdTo = Long.MAX_VALUE;
+
+    /**
+     * Creates a filter that accepts all entities.
+     */
+    public EntityFilter() {
+    }
+
+    /**
+     * Accept only entities of the given type.
+     *
+     * @param type The type.
+     * @return This filter.
+     */
+    public EntityFilter type(String type) {
+        this.type = checkNotEmpty(type, "type");
+        return this;
+    }
+
+    /**
+     * Accept only entities whose name starts with the given prefix.
+     *
+     * @param prefix The name prefix.
+     * @return This filter.
+     */
+    public EntityFilter namePrefix(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix must not be null");
+        }
+        this.namePrefix = prefix;
+        return this;
+    }
+
+    /**
+     * Accept only entities that have the section with the given id as metadata.
+     *
+     * @param sectionId The id of the metadata section.
+     * @return This filter.
+     */
+    public EntityFilter metadata(String sectionId) {
+        this.metadataId = checkNotEmpty(sectionId, "sectionId");
+        return this;
+    }
+
+    /**
+     * Accept only entities that have the given section as metadata.
+     *
+     * @param section The metadata section.
+     * @return This filter.
+     */
+    public EntityFilter metadata(Section section) {
+        return metadata(section.getId());
+    }
+
+    /**
+     * Accept only entities that are linked to the source with the given name or id.
+     *
+     * @param nameOrId The name or id of the source.
+     * @return This filter.
+     */
+    public EntityFilter source(String nameOrId) {
+        this.sourceId = checkNotEmpty(nameOrId, "nameOrId");
+        return this;
+    }
+
+    /**
+     * Accept only entities that are linked to the given source.
+     *
+     * @param source The source.
+     * @return This filter.
+     */
+    public EntityFilter source(Source source) {
+        return source(source.getId());
+    }
+
+    /**
+     * Accept only entities created within the given time range, bounds included.
+     * A bound that is <tt>null</tt> is open.
+     *
+     * @param from The earliest creation date.
+     * @param to   The latest creation date.
+     * @return This filter.
+     */
+    public EntityFilter createdBetween(Date from, Date to) {
+        this.createdFrom = from != null ? DateUtils.convertDateToSeconds(from) : Long.MIN_VALUE;
+        this.createdTo = to != null ? DateUtils.convertDateToSeconds(to) : Long.MAX_VALUE;
+        return this;
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getNamePrefix() {
+        return namePrefix;
+    }
+
+    String getMetadataId() {
+        return metadataId;
+    }
+
+    String getSourceId() {
+        return sourceId;
+    }
+
+    long getCreatedFrom() {
+        return createdFrom;
+    }
+
+    long getCreatedTo() {
+        return createdTo;
+    }
+
+    void checkSectionFilter() {
+        if (!metadataId.isEmpty() || !sourceId.isEmpty()) {
+            throw new IllegalArgumentException("sections cannot be filtered by metadata or source");
+        }
+    }
+
+    private static String checkNotEmpty(String value, String name) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " must not be empty");
+        }
+        return value;
+    }
+}
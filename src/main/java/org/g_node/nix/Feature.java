@@ -72,15 +72,19 @@ public class Feature extends Entity {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the feature.
      *
      * @return ID string.
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -92,7 +96,7 @@ public class Feature extends Entity {
      * @return The creation date of the feature.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -118,10 +122,16 @@ public class Feature extends Entity {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -132,6 +142,7 @@ public class Feature extends Entity {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     //--------------------------------------------------
@@ -185,10 +196,13 @@ public class Feature extends Entity {
      * @return The associated data array.
      * @see DataArray
      */
-    public native
-    @Name("data")
+    public DataArray getData() {
+        return track(data());
+    }
+
+    private native
     @ByVal
-    DataArray getData();
+    DataArray data();
 
     /**
      * Convert {@link LinkType} to string.
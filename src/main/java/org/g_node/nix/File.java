@@ -3,7 +3,10 @@ package org.g_node.nix;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.bytedeco.javacpp.IntPointer;
 import org.bytedeco.javacpp.Loader;
@@ -17,9 +20,13 @@ import org.bytedeco.javacpp.annotation.Platform;
 import org.bytedeco.javacpp.annotation.Properties;
 import org.bytedeco.javacpp.annotation.StdString;
 import org.bytedeco.javacpp.annotation.StdVector;
+import org.g_node.nix.base.Entity;
+import org.g_node.nix.base.EntityCache;
 import org.g_node.nix.base.ImplContainer;
+import org.g_node.nix.base.NativeScope;
 import org.g_node.nix.internal.BuildLibs;
 import org.g_node.nix.internal.DateUtils;
+import org.g_node.nix.internal.ListBuilder;
 import org.g_node.nix.internal.VectorUtils;
 import org.g_node.nix.valid.Result;
 
@@ -32,7 +39,7 @@ import org.g_node.nix.valid.Result;
  */
 
 @Properties(value = {
-        @Platform(include = {"<nix/File.hpp>"}),
+        @Platform(include = {"<nix/File.hpp>", "entityfilterhelper.hpp"}),
         @Platform(value = "linux", link = BuildLibs.NIX_1, preload = BuildLibs.HDF5_7),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
@@ -105,6 +112,59 @@ public class File extends ImplContainer implements Comparable<File> {
     @ByVal
     File open(@StdString String name);
 
+    /**
+     * Opens a file for concurrent reading from several threads.
+     * <p>
+     * Each thread gets its own read-only handle of the file, calls into the back-end
+     * are serialized by a process wide lock.
+     *
+     * @param name The name/path of the file.
+     * @return The shared file.
+     * @see SharedFile
+     */
+    public static SharedFile openShared(String name) {
+        return new SharedFile(name);
+    }
+
+    // files returned by open are not constructed in Java, hence no initializers
+    private EntityCache entityCache;
+    private String location;
+
+    /**
+     * Set the entity cache of the file.
+     * <p>
+     * While a cache is set, retrieving an entity of the file repeatedly returns the same object.
+     * Entities retrieved before the cache was set are not affected.
+     *
+     * @param cache The cache or <tt>null</tt> to disable caching.
+     * @see EntityCache
+     */
+    public void setEntityCache(EntityCache cache) {
+        this.entityCache = cache;
+    }
+
+    /**
+     * Get the entity cache of the file.
+     *
+     * @return The cache or <tt>null</tt> if caching is disabled.
+     * @see EntityCache
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    private <T extends Entity> T track(T entity) {
+        return entityCache != null ? entityCache.intern(entity) : NativeScope.attach(entity);
+    }
+
+    private <T extends Entity> List<T> track(List<T> entities) {
+        if (entityCache != null) {
+            return entityCache.intern(entities);
+        }
+        entities.forEach(NativeScope::attach);
+        return entities;
+    }
+
     //--------------------------------------------------
     // Methods concerning Block
     //--------------------------------------------------
@@ -160,7 +220,7 @@ public class File extends ImplContainer implements Comparable<File> {
         if (block.isNone()) {
             block = null;
         }
-        return block;
+        return track(block);
     }
 
     private native
@@ -182,7 +242,7 @@ public class File extends ImplContainer implements Comparable<File> {
         if (block.isNone()) {
             block = null;
         }
-        return block;
+        return track(block);
     }
 
     /**
@@ -193,9 +253,14 @@ public class File extends ImplContainer implements Comparable<File> {
      * @return The created block.
      * @see Block
      */
-    public native
+    public Block createBlock(String name, String type) {
+        return track(makeBlock(name, type));
+    }
+
+    private native
+    @Name("createBlock")
     @ByVal
-    Block createBlock(@StdString String name, @StdString String type);
+    Block makeBlock(@StdString String name, @StdString String type);
 
     /**
      * Deletes a block from the file.
@@ -230,7 +295,7 @@ public class File extends ImplContainer implements Comparable<File> {
      * @see Block
      */
     public List<Block> getBlocks() {
-        return blocks().getBlocks();
+        return track(blocks().getBlocks());
     }
 
     /**
@@ -253,6 +318,18 @@ public class File extends ImplContainer implements Comparable<File> {
         return result;
     }
 
+    /**
+     * Stream the blocks of this file.
+     * <p>
+     * The blocks are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the blocks.
+     * @see Block
+     */
+    public Stream<Block> getBlockStream() {
+        return ListBuilder.stream(this::getBlockCount, this::getBlock);
+    }
+
 
     //--------------------------------------------------
     // Methods concerning sections
@@ -297,7 +374,7 @@ public class File extends ImplContainer implements Comparable<File> {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     private native
@@ -317,7 +394,7 @@ public class File extends ImplContainer implements Comparable<File> {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     /**
@@ -344,7 +421,7 @@ public class File extends ImplContainer implements Comparable<File> {
      * @see Section
      */
     public List<Section> getSections() {
-        return sections().getSections();
+        return track(sections().getSections());
     }
 
     /**
@@ -367,6 +444,42 @@ public class File extends ImplContainer implements Comparable<File> {
         return result;
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_sections")
+    private static native
+    @ByVal
+    VectorUtils.SectionVector filterSections(@Const @ByRef File file, @StdString String type, @StdString String namePrefix,
+                                             @StdString String metadataId, @StdString String sourceId,
+                                             @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the root sections of this file that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching root sections are passed to Java.
+     * Only type, name prefix and creation time of the filter apply to sections.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching root sections.
+     * @see EntityFilter
+     */
+    public List<Section> getSections(EntityFilter filter) {
+        filter.checkSectionFilter();
+        return track(filterSections(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getSections());
+    }
+
+    /**
+     * Stream the root sections of this file.
+     * <p>
+     * The root sections are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the root sections.
+     * @see Section
+     */
+    public Stream<Section> getSectionStream() {
+        return ListBuilder.stream(this::getSectionCount, this::getSection);
+    }
+
     /**
      * Get all sections in this file recursively.
      * <p>
@@ -381,11 +494,54 @@ public class File extends ImplContainer implements Comparable<File> {
      * @see Section
      */
     public List<Section> findSections(Predicate<Section> filter, int maxDepth) {
-        List<Section> result = new ArrayList<>();
-        for (Section section : getSections()) {
-            result.addAll(section.findSections(filter, maxDepth));
-        }
-        return result;
+        return findSectionStream(filter, maxDepth).collect(Collectors.toList());
+    }
+
+    /**
+     * Get at most a given number of sections in this file recursively.
+     * <p>
+     * The traversal is the same as in {@link File#findSections(Predicate, int)}, but
+     * it stops as soon as enough matching sections are found.
+     *
+     * @param filter     A filter function.
+     * @param maxDepth   The maximum depth of traversal.
+     * @param maxResults The maximum number of sections to return.
+     * @return A list containing the first matching sections.
+     * @see Section
+     */
+    public List<Section> findSections(Predicate<Section> filter, int maxDepth, int maxResults) {
+        return findSectionStream(filter, maxDepth).limit(maxResults).collect(Collectors.toList());
+    }
+
+    /**
+     * Stream the sections in this file that match a filter.
+     * <p>
+     * The trees of the root sections are traversed breadth first, one after the other, while
+     * the stream is consumed. Sections are only fetched once they are reached, so
+     * short-circuiting operations stop the traversal early.
+     *
+     * @param filter   A filter function.
+     * @param maxDepth The maximum depth of traversal.
+     * @return A sequential stream of the matching sections.
+     * @see Section
+     */
+    public Stream<Section> findSectionStream(Predicate<Section> filter, int maxDepth) {
+        return SectionSearch.stream(getSectionStream().iterator(), filter, maxDepth);
+    }
+
+    /**
+     * Get all sections in this file recursively, using several threads.
+     * <p>
+     * See {@link Section#findSectionsParallel(Predicate, int)}. The results of the root
+     * sections follow each other in the order of the root sections.
+     *
+     * @param filter   A filter function.
+     * @param maxDepth The maximum depth of traversal.
+     * @return A list containing the matching sections.
+     * @see Section
+     */
+    public List<Section> findSectionsParallel(Predicate<Section> filter, int maxDepth) {
+        return SectionSearch.parallel(getSections(), filter, maxDepth, ForkJoinPool.commonPool());
     }
 
     /**
@@ -422,10 +578,17 @@ public class File extends ImplContainer implements Comparable<File> {
         Section section = makeSection(name, type);
         if (section.isNone()) {
             section = null;
+        } else if (MetadataEvents.isActive()) {
+            MetadataEvents.sectionCreated(getLocation(), null, section);
         }
-        return section;
+        return track(section);
     }
 
+    private native
+    @Name("deleteSection")
+    @Cast("bool")
+    boolean removeSection(@StdString String nameOrId);
+
     /**
      * Deletes the Section that is specified with the id.
      *
@@ -433,9 +596,22 @@ public class File extends ImplContainer implements Comparable<File> {
      * @return True if the section was deleted, false otherwise.
      * @see Section
      */
-    public native
+    public boolean deleteSection(String nameOrId) {
+        if (!MetadataEvents.isActive()) {
+            return removeSection(nameOrId);
+        }
+        Section section = getSection(nameOrId);
+        boolean deleted = removeSection(nameOrId);
+        if (deleted && section != null) {
+            MetadataEvents.sectionDeleted(section.getId());
+        }
+        return deleted;
+    }
+
+    private native
+    @Name("deleteSection")
     @Cast("bool")
-    boolean deleteSection(@StdString String nameOrId);
+    boolean removeSection(@Const @ByRef Section section);
 
     /**
      * Deletes the Section.
@@ -444,9 +620,27 @@ public class File extends ImplContainer implements Comparable<File> {
      * @return True if the section was deleted, false otherwise.
      * @see Section
      */
-    public native
-    @Cast("bool")
-    boolean deleteSection(@Const @ByRef Section section);
+    public boolean deleteSection(Section section) {
+        String id = MetadataEvents.isActive() && section != null ? section.getId() : null;
+        boolean deleted = removeSection(section);
+        if (deleted && id != null) {
+            MetadataEvents.sectionDeleted(id);
+        }
+        return deleted;
+    }
+
+    /**
+     * Create an index of the metadata of this file.
+     * <p>
+     * All sections and properties are read once. The index is updated by changes to the
+     * metadata that are made through the bindings until it is closed.
+     *
+     * @return The metadata index.
+     * @see MetadataIndex
+     */
+    public MetadataIndex createMetadataIndex() {
+        return new MetadataIndex(this);
+    }
 
 
     //------------------------------------------------------
@@ -478,15 +672,22 @@ public class File extends ImplContainer implements Comparable<File> {
     @StdString
     String getFormat();
 
+    private native
+    @Name("location")
+    @StdString
+    String location();
+
     /**
      * Return the location / uri.
      *
      * @return The uri string.
      */
-    public native
-    @Name("location")
-    @StdString
-    String getLocation();
+    public String getLocation() {
+        if (location == null) {
+            location = location();
+        }
+        return location;
+    }
 
     private native
     @Cast("time_t")
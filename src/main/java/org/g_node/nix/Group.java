@@ -2,6 +2,7 @@ package org.g_node.nix;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.bytedeco.javacpp.Loader;
 import org.bytedeco.javacpp.annotation.*;
@@ -14,7 +15,7 @@ import org.g_node.nix.internal.OptionalUtils.OptionalString;
  * An additional grouping element within Block.
  */
 @Properties(value = {
-        @Platform(include = {"<nix/Group.hpp>"}),
+        @Platform(include = {"<nix/Group.hpp>", "entityfilterhelper.hpp"}),
         @Platform(value = "linux", link = BuildLibs.NIX_1, preload = BuildLibs.HDF5_7),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
         @Platform(value = "windows",
@@ -32,13 +33,17 @@ public class Group extends EntityWithSources {
     @Override @Cast("bool")
     public native boolean isNone();
 
+    @Name("id") @StdString
+    private native String id();
+
     /**
      * Get id of the group.
      *
      * @return The ID string.
      */
-    @Name("id") @StdString
-    public native String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     @Cast("time_t")
     private native long createdAt();
@@ -49,7 +54,7 @@ public class Group extends EntityWithSources {
      * @return The creation date of the group.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     @Cast("time_t")
@@ -74,10 +79,16 @@ public class Group extends EntityWithSources {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -88,6 +99,7 @@ public class Group extends EntityWithSources {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     /**
@@ -106,13 +118,17 @@ public class Group extends EntityWithSources {
     @Name("type") @StdString
     public native String getType();
 
+    @Name("name") @StdString
+    private native String name();
+
     /**
      * Getter for the name of the group.
      *
      * @return The name of the group.
      */
-    @Name("name") @StdString
-    public native String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None none);
 
@@ -166,7 +182,7 @@ public class Group extends EntityWithSources {
         Section section = metadata();
         if (section.isNone())
             return null;
-        return section;
+        return track(section);
     }
 
     /**
@@ -246,7 +262,7 @@ public class Group extends EntityWithSources {
         Source source = fetchSource(id);
         if (source.isNone())
             return null;
-        return source;
+        return track(source);
     }
 
     @Name("getSource") @ByVal
@@ -264,7 +280,7 @@ public class Group extends EntityWithSources {
         Source source = fetchSource(index);
         if (source.isNone())
             return null;
-        return source;
+        return track(source);
     }
 
     /**
@@ -287,6 +303,18 @@ public class Group extends EntityWithSources {
         return ListBuilder.build(this::getSourceCount, this::getSource, filter);
     }
 
+    /**
+     * Stream the sources of this group.
+     * <p>
+     * The sources are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the sources.
+     * @see Source
+     */
+    public Stream<Source> getSourceStream() {
+        return ListBuilder.stream(this::getSourceCount, this::getSource);
+    }
+
     /**
      * Set all sources associations for this entity.
      * All previously existing associations will be overwritten.
@@ -401,7 +429,7 @@ public class Group extends EntityWithSources {
         DataArray da = fetchDataArray(nameOrId);
         if (da.isNone())
             return null;
-        return da;
+        return track(da);
     }
 
     /**
@@ -416,7 +444,7 @@ public class Group extends EntityWithSources {
         DataArray da = fetchDataArray(index);
         if (da.isNone())
             return null;
-        return da;
+        return track(da);
     }
 
     /**
@@ -442,6 +470,40 @@ public class Group extends EntityWithSources {
         return ListBuilder.build(this::getDataArrayCount, this::getDataArray, filter);
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_data_arrays")
+    private static native
+    @ByVal
+    VectorUtils.DataArrayVector filterDataArrays(@Const @ByRef Group group, @StdString String type, @StdString String namePrefix,
+                                                 @StdString String metadataId, @StdString String sourceId,
+                                                 @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the data arrays of this group that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching data arrays are passed to Java.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching data arrays.
+     * @see EntityFilter
+     */
+    public List<DataArray> getDataArrays(EntityFilter filter) {
+        return track(filterDataArrays(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getDataArrays());
+    }
+
+    /**
+     * Stream the data arrays of this group.
+     * <p>
+     * The data arrays are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the data arrays.
+     * @see DataArray
+     */
+    public Stream<DataArray> getDataArrayStream() {
+        return ListBuilder.stream(this::getDataArrayCount, this::getDataArray);
+    }
+
     /**
      * Set all DataArray associations for this group.
      * All previously existing associations will be overwritten.
@@ -553,7 +615,7 @@ public class Group extends EntityWithSources {
         Tag tag = fetchTag(nameOrId);
         if (tag.isNone())
             return null;
-        return tag;
+        return track(tag);
     }
 
     /**
@@ -568,7 +630,7 @@ public class Group extends EntityWithSources {
         Tag tag = fetchTag(index);
         if (tag.isNone())
             return null;
-        return tag;
+        return track(tag);
     }
 
     /**
@@ -594,6 +656,40 @@ public class Group extends EntityWithSources {
         return ListBuilder.build(this::getTagCount, this::getTag, filter);
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_tags")
+    private static native
+    @ByVal
+    VectorUtils.TagVector filterTags(@Const @ByRef Group group, @StdString String type, @StdString String namePrefix,
+                                     @StdString String metadataId, @StdString String sourceId,
+                                     @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the tags of this group that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching tags are passed to Java.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching tags.
+     * @see EntityFilter
+     */
+    public List<Tag> getTags(EntityFilter filter) {
+        return track(filterTags(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getTags());
+    }
+
+    /**
+     * Stream the tags of this group.
+     * <p>
+     * The tags are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the tags.
+     * @see Tag
+     */
+    public Stream<Tag> getTagStream() {
+        return ListBuilder.stream(this::getTagCount, this::getTag);
+    }
+
     /**
      * Set all Tag associations for this group.
      * All previously existing associations will be overwritten.
@@ -704,7 +800,7 @@ public class Group extends EntityWithSources {
         MultiTag tag = fetchMultiTag(nameOrId);
         if (tag.isNone())
             return null;
-        return tag;
+        return track(tag);
     }
 
     /**
@@ -719,7 +815,7 @@ public class Group extends EntityWithSources {
         MultiTag tag = fetchMultiTag(index);
         if (tag.isNone())
             return null;
-        return tag;
+        return track(tag);
     }
 
     /**
@@ -745,6 +841,40 @@ public class Group extends EntityWithSources {
         return ListBuilder.build(this::getMultiTagCount, this::getMultiTag, filter);
     }
 
+    @Namespace("::nix_java")
+    @Name("filter_multi_tags")
+    private static native
+    @ByVal
+    VectorUtils.MultiTagVector filterMultiTags(@Const @ByRef Group group, @StdString String type, @StdString String namePrefix,
+                                               @StdString String metadataId, @StdString String sourceId,
+                                               @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
+
+    /**
+     * Get the multi tags of this group that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching multi tags are passed to Java.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching multi tags.
+     * @see EntityFilter
+     */
+    public List<MultiTag> getMultiTags(EntityFilter filter) {
+        return track(filterMultiTags(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getMultiTags());
+    }
+
+    /**
+     * Stream the multi tags of this group.
+     * <p>
+     * The multi tags are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the multi tags.
+     * @see MultiTag
+     */
+    public Stream<MultiTag> getMultiTagStream() {
+        return ListBuilder.stream(this::getMultiTagCount, this::getMultiTag);
+    }
+
     /**
      * Set all MultiTag associations for this group.
      * All previously existing associations will be overwritten.
@@ -0,0 +1,74 @@
+package org.g_node.nix;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches changes of the metadata tree to the registered {@link MetadataListener}s.
+ * <p>
+ * Listeners are referenced weakly. The mutators of {@link File}, {@link Section} and
+ * {@link Property} only collect the information for an event if {@link #isActive()}.
+ */
+final class MetadataEvents {
+
+    private static final CopyOnWriteArrayList<WeakReference<MetadataListener>> listeners =
+            new CopyOnWriteArrayList<>();
+
+    private MetadataEvents() {
+    }
+
+    static void register(MetadataListener listener) {
+        listeners.add(new WeakReference<>(listener));
+    }
+
+    static void unregister(MetadataListener listener) {
+        listeners.removeIf(ref -> {
+            MetadataListener l = ref.get();
+            return l == null || l == listener;
+        });
+    }
+
+    static boolean isActive() {
+        return !listeners.isEmpty();
+    }
+
+    static void sectionCreated(String fileLocation, String parentId, Section section) {
+        fire(l -> l.sectionCreated(fileLocation, parentId, section));
+    }
+
+    static void sectionDeleted(String id) {
+        fire(l -> l.sectionDeleted(id));
+    }
+
+    static void sectionChanged(Section section) {
+        fire(l -> l.sectionChanged(section));
+    }
+
+    static void propertyCreated(String sectionId, Property property) {
+        fire(l -> l.propertyCreated(sectionId, property));
+    }
+
+    static void propertyDeleted(String id) {
+        fire(l -> l.propertyDeleted(id));
+    }
+
+    static void propertyChanged(Property property) {
+        fire(l -> l.propertyChanged(property));
+    }
+
+    private static void fire(Consumer<MetadataListener> event) {
+        boolean cleared = false;
+        for (WeakReference<MetadataListener> ref : listeners) {
+            MetadataListener listener = ref.get();
+            if (listener != null) {
+                event.accept(listener);
+            } else {
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            listeners.removeIf(ref -> ref.get() == null);
+        }
+    }
+}
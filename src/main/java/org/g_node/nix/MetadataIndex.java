@@ -0,0 +1,461 @@
+package org.g_node.nix;
+
+import org.g_node.nix.base.NativeScope;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * <h1>MetadataIndex</h1>
+ * In-memory index of the metadata tree of a file.
+ * <p>
+ * The index maps section names and types as well as property names and values to the ids
+ * of the respective sections and properties. It is built once by walking all sections of the
+ * file and is kept up to date by the methods of the bindings that change the metadata, e.g.
+ * {@link Section#createSection(String, String)}, {@link Section#createProperty(String, Variant)},
+ * {@link Property#setValues(List)} or {@link File#deleteSection(String)}. Changes made to the
+ * file by other means are not reflected.
+ * <pre><code>
+ *     File f = File.open("recordings.h5", FileMode.ReadWrite);
+ *     try (MetadataIndex index = f.createMetadataIndex()) {
+ *         List&lt;Section&gt; sessions = index.findSections("stimulus", "grating");
+ *         ...
+ *     }
+ * </code></pre>
+ * Property values are compared by their Java value, integer values are compared as
+ * <tt>long</tt> and floating point values as <tt>double</tt>. Unsigned 64 bit values
+ * above <tt>Long.MAX_VALUE</tt> are compared as {@link java.math.BigInteger}. Empty values
+ * are not indexed.
+ * The index keeps its own handles to the indexed sections, the sections it returns are new
+ * handles that belong to the current {@link NativeScope}, if any.
+ * The index must not be used after the file was closed.
+ *
+ * @see File#createMetadataIndex()
+ */
+public class MetadataIndex implements AutoCloseable {
+
+    private static final class SectionEntry {
+        final Section section;
+        final String id;
+        final String parentId;
+        final String name;
+        String type;
+        final Set<String> children = new LinkedHashSet<>();
+        final Set<String> properties = new LinkedHashSet<>();
+
+        SectionEntry(Section section, String parentId) {
+            // an own handle, the one passed may be released by its scope or its owner
+            this.section = new Section(section);
+            this.id = section.getId();
+            this.parentId = parentId;
+            this.name = section.getName();
+            this.type = section.getType();
+        }
+    }
+
+    private static final class PropertyEntry {
+        final String sectionId;
+        final String name;
+        List<Object> values;
+
+        PropertyEntry(String sectionId, String name, List<Object> values) {
+            this.sectionId = sectionId;
+            this.name = name;
+            this.values = values;
+        }
+    }
+
+    private final String location;
+    private final MetadataListener tracker = new Tracker();
+
+    private final Map<String, SectionEntry> sections = new HashMap<>();
+    private final Map<String, PropertyEntry> properties = new HashMap<>();
+
+    private final Map<String, Set<String>> sectionsByName = new HashMap<>();
+    private final Map<String, Set<String>> sectionsByType = new HashMap<>();
+    private final Map<String, Set<String>> propertiesByName = new HashMap<>();
+    private final Map<String, Map<Object, Set<String>>> propertiesByValue = new HashMap<>();
+
+    MetadataIndex(File file) {
+        this.location = canonical(file.getLocation());
+
+        ArrayDeque<SectionEntry> todo = new ArrayDeque<>();
+        for (Section root : file.getSections()) {
+            todo.add(addSection(null, root));
+        }
+        while (!todo.isEmpty()) {
+            SectionEntry current = todo.remove();
+            for (Section child : current.section.getSections()) {
+                todo.add(addSection(current.id, child));
+            }
+        }
+
+        MetadataEvents.register(tracker);
+    }
+
+    //--------------------------------------------------
+    // Queries
+    //--------------------------------------------------
+
+    /**
+     * Get the ids of all sections with the given name.
+     *
+     * @param name The name of the sections.
+     * @return The ids of the sections.
+     */
+    public synchronized Set<String> getSectionIdsByName(String name) {
+        return copy(sectionsByName.get(name));
+    }
+
+    /**
+     * Get the ids of all sections of the given type.
+     *
+     * @param type The type of the sections.
+     * @return The ids of the sections.
+     */
+    public synchronized Set<String> getSectionIdsByType(String type) {
+        return copy(sectionsByType.get(type));
+    }
+
+    /**
+     * Get the ids of all properties with the given name.
+     *
+     * @param name The name of the properties.
+     * @return The ids of the properties.
+     */
+    public synchronized Set<String> getPropertyIdsByName(String name) {
+        return copy(propertiesByName.get(name));
+    }
+
+    /**
+     * Get the ids of all properties with the given name that have the given value.
+     *
+     * @param name  The name of the properties.
+     * @param value One of the values of the properties.
+     * @return The ids of the properties.
+     */
+    public synchronized Set<String> getPropertyIds(String name, Object value) {
+        Map<Object, Set<String>> byValue = propertiesByValue.get(name);
+        return copy(byValue != null ? byValue.get(key(value)) : null);
+    }
+
+    /**
+     * Get all sections that have a property with the given name and value.
+     *
+     * @param propertyName The name of the property.
+     * @param value        One of the values of the property.
+     * @return The matching sections.
+     * @see Section
+     */
+    public synchronized List<Section> findSections(String propertyName, Object value) {
+        Set<String> ids = getPropertyIds(propertyName, value);
+        Set<String> sectionIds = new LinkedHashSet<>();
+        for (String id : ids) {
+            sectionIds.add(properties.get(id).sectionId);
+        }
+
+        List<Section> result = new ArrayList<>(sectionIds.size());
+        for (String id : sectionIds) {
+            result.add(NativeScope.attach(new Section(sections.get(id).section)));
+        }
+        return result;
+    }
+
+    /**
+     * Get an indexed section by its id.
+     *
+     * @param id The id of the section.
+     * @return The section or <tt>null</tt> if it is not in the index.
+     * @see Section
+     */
+    public synchronized Section getSection(String id) {
+        SectionEntry entry = sections.get(id);
+        return entry != null ? NativeScope.attach(new Section(entry.section)) : null;
+    }
+
+    /**
+     * Get an indexed property by its id.
+     *
+     * @param id The id of the property.
+     * @return The property or <tt>null</tt> if it is not in the index.
+     * @see Property
+     */
+    public synchronized Property getProperty(String id) {
+        PropertyEntry entry = properties.get(id);
+        return entry != null ? sections.get(entry.sectionId).section.getProperty(id) : null;
+    }
+
+    /**
+     * Get the number of indexed sections.
+     *
+     * @return The number of sections.
+     */
+    public synchronized int getSectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * Get the number of indexed properties.
+     *
+     * @return The number of properties.
+     */
+    public synchronized int getPropertyCount() {
+        return properties.size();
+    }
+
+    /**
+     * Stop tracking changes and release the index.
+     */
+    @Override
+    public synchronized void close() {
+        MetadataEvents.unregister(tracker);
+        for (SectionEntry entry : sections.values()) {
+            entry.section.close();
+        }
+        sections.clear();
+        properties.clear();
+        sectionsByName.clear();
+        sectionsByType.clear();
+        propertiesByName.clear();
+        propertiesByValue.clear();
+    }
+
+    //--------------------------------------------------
+    // Changes
+    //--------------------------------------------------
+
+    private synchronized void sectionCreated(String fileLocation, String parentId, Section section) {
+        if (parentId != null ? sections.containsKey(parentId) : location.equals(canonical(fileLocation))) {
+            addSection(parentId, section);
+        }
+    }
+
+    private synchronized void sectionDeleted(String id) {
+        SectionEntry entry = sections.get(id);
+        if (entry == null) {
+            return;
+        }
+        if (entry.parentId != null) {
+            sections.get(entry.parentId).children.remove(id);
+        }
+
+        ArrayDeque<String> todo = new ArrayDeque<>();
+        todo.add(id);
+        // the sections below are deleted in the back-end already, hence only the stored ids are used
+        while (!todo.isEmpty()) {
+            SectionEntry current = sections.remove(todo.remove());
+            current.section.close();
+            remove(sectionsByName, current.name, current.id);
+            remove(sectionsByType, current.type, current.id);
+            for (String propertyId : current.properties) {
+                removeProperty(propertyId);
+            }
+            todo.addAll(current.children);
+        }
+    }
+
+    private synchronized void sectionChanged(Section section) {
+        String id = section.getId();
+        SectionEntry entry = sections.get(id);
+        if (entry != null) {
+            remove(sectionsByType, entry.type, id);
+            entry.type = section.getType();
+            put(sectionsByType, entry.type, id);
+        }
+    }
+
+    private synchronized void propertyCreated(String sectionId, Property property) {
+        SectionEntry entry = sections.get(sectionId);
+        if (entry != null) {
+            addProperty(entry, property);
+        }
+    }
+
+    private synchronized void propertyDeleted(String id) {
+        PropertyEntry entry = properties.get(id);
+        if (entry != null) {
+            sections.get(entry.sectionId).properties.remove(id);
+            removeProperty(id);
+        }
+    }
+
+    private synchronized void propertyChanged(Property property) {
+        String id = property.getId();
+        PropertyEntry entry = properties.get(id);
+        if (entry != null) {
+            unindexValues(id, entry);
+            entry.values = values(property);
+            indexValues(id, entry);
+        }
+    }
+
+    private final class Tracker implements MetadataListener {
+
+        @Override
+        public void sectionCreated(String fileLocation, String parentId, Section section) {
+            MetadataIndex.this.sectionCreated(fileLocation, parentId, section);
+        }
+
+        @Override
+        public void sectionDeleted(String id) {
+            MetadataIndex.this.sectionDeleted(id);
+        }
+
+        @Override
+        public void sectionChanged(Section section) {
+            MetadataIndex.this.sectionChanged(section);
+        }
+
+        @Override
+        public void propertyCreated(String sectionId, Property property) {
+            MetadataIndex.this.propertyCreated(sectionId, property);
+        }
+
+        @Override
+        public void propertyDeleted(String id) {
+            MetadataIndex.this.propertyDeleted(id);
+        }
+
+        @Override
+        public void propertyChanged(Property property) {
+            MetadataIndex.this.propertyChanged(property);
+        }
+    }
+
+    //--------------------------------------------------
+    // Internals
+    //--------------------------------------------------
+
+    private SectionEntry addSection(String parentId, Section section) {
+        SectionEntry entry = new SectionEntry(section, parentId);
+        String id = entry.id;
+
+        sections.put(id, entry);
+        if (parentId != null) {
+            sections.get(parentId).children.add(id);
+        }
+        put(sectionsByName, entry.name, id);
+        put(sectionsByType, entry.type, id);
+
+        for (Property property : section.getProperties()) {
+            addProperty(entry, property);
+        }
+        return entry;
+    }
+
+    private void addProperty(SectionEntry section, Property property) {
+        String id = property.getId();
+        PropertyEntry entry = new PropertyEntry(section.id, property.getName(), values(property));
+
+        properties.put(id, entry);
+        section.properties.add(id);
+        put(propertiesByName, entry.name, id);
+        indexValues(id, entry);
+    }
+
+    private void removeProperty(String id) {
+        PropertyEntry entry = properties.remove(id);
+        remove(propertiesByName, entry.name, id);
+        unindexValues(id, entry);
+    }
+
+    private void indexValues(String id, PropertyEntry entry) {
+        Map<Object, Set<String>> byValue = propertiesByValue.computeIfAbsent(entry.name, k -> new HashMap<>());
+        for (Object value : entry.values) {
+            put(byValue, value, id);
+        }
+    }
+
+    private void unindexValues(String id, PropertyEntry entry) {
+        Map<Object, Set<String>> byValue = propertiesByValue.get(entry.name);
+        if (byValue == null) {
+            return;
+        }
+        for (Object value : entry.values) {
+            remove(byValue, value, id);
+        }
+        if (byValue.isEmpty()) {
+            propertiesByValue.remove(entry.name);
+        }
+    }
+
+    private static List<Object> values(Property property) {
+        List<Variant> variants = property.getValues();
+        List<Object> values = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            Object value = value(variant);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static Object value(Variant variant) {
+        switch (variant.getType()) {
+            case DataType.Bool:
+                return variant.getBoolean();
+            case DataType.Int32:
+                return (long) variant.getInt();
+            case DataType.UInt32:
+                return variant.getUInt();
+            case DataType.Int64:
+                return variant.getLong();
+            case DataType.UInt64:
+                return unsigned(variant.getULong());
+            case DataType.Double:
+                return variant.getDouble();
+            case DataType.String:
+                return variant.getString();
+            case DataType.Nothing:
+                return null;
+            default:
+                throw new IllegalArgumentException("unsupported property value type " + variant.getType());
+        }
+    }
+
+    private static Object unsigned(long value) {
+        return value >= 0 ? Long.valueOf(value) : new BigInteger(Long.toUnsignedString(value));
+    }
+
+    private static Object key(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE) {
+            return ((BigInteger) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        return value;
+    }
+
+    private static <K> void put(Map<K, Set<String>> map, K key, String id) {
+        map.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(id);
+    }
+
+    private static <K> void remove(Map<K, Set<String>> map, K key, String id) {
+        Set<String> ids = map.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    // different spellings of the same path, e.g. relative ones or symbolic links, must match
+    private static String canonical(String path) {
+        try {
+            return new java.io.File(path).getCanonicalPath();
+        } catch (IOException e) {
+            return new java.io.File(path).getAbsolutePath();
+        }
+    }
+
+    private static Set<String> copy(Set<String> ids) {
+        return ids != null ? Collections.unmodifiableSet(new LinkedHashSet<>(ids)) : Collections.emptySet();
+    }
+}
@@ -0,0 +1,54 @@
+package org.g_node.nix;
+
+/**
+ * Receives changes of the metadata tree made through the bindings.
+ *
+ * @see MetadataEvents
+ */
+interface MetadataListener {
+
+    /**
+     * A section was created.
+     *
+     * @param fileLocation The location of the file for root sections, otherwise <tt>null</tt>.
+     * @param parentId     The id of the parent section, <tt>null</tt> for root sections.
+     * @param section      The new section.
+     */
+    void sectionCreated(String fileLocation, String parentId, Section section);
+
+    /**
+     * A section and with it its whole sub-tree was deleted.
+     *
+     * @param id The id of the deleted section.
+     */
+    void sectionDeleted(String id);
+
+    /**
+     * An attribute of a section, e.g. its type, changed.
+     *
+     * @param section The changed section.
+     */
+    void sectionChanged(Section section);
+
+    /**
+     * A property was created.
+     *
+     * @param sectionId The id of the section of the property.
+     * @param property  The new property.
+     */
+    void propertyCreated(String sectionId, Property property);
+
+    /**
+     * A property was deleted.
+     *
+     * @param id The id of the deleted property.
+     */
+    void propertyDeleted(String id);
+
+    /**
+     * The values of a property changed.
+     *
+     * @param property The changed property.
+     */
+    void propertyChanged(Property property);
+}
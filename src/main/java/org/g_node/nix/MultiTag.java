@@ -72,15 +72,19 @@ public class MultiTag extends EntityWithSources {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the multitag
      *
      * @return id string
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -92,7 +96,7 @@ public class MultiTag extends EntityWithSources {
      * @return The creation date of the multitag.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -118,10 +122,16 @@ public class MultiTag extends EntityWithSources {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -132,6 +142,7 @@ public class MultiTag extends EntityWithSources {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     /**
@@ -153,15 +164,19 @@ public class MultiTag extends EntityWithSources {
     @StdString
     String getType();
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the multitag.
      *
      * @return The name of the multitag.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -214,7 +229,7 @@ public class MultiTag extends EntityWithSources {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     /**
@@ -302,7 +317,7 @@ public class MultiTag extends EntityWithSources {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     private native
@@ -323,7 +338,7 @@ public class MultiTag extends EntityWithSources {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     private native
@@ -337,7 +352,7 @@ public class MultiTag extends EntityWithSources {
      * @see Source
      */
     public List<Source> getSources() {
-        return sources().getSources();
+        return track(sources().getSources());
     }
 
     private native void sources(@Const @ByRef VectorUtils.SourceVector sources);
@@ -427,7 +442,7 @@ public class MultiTag extends EntityWithSources {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     /**
@@ -477,7 +492,7 @@ public class MultiTag extends EntityWithSources {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     /**
@@ -603,7 +618,7 @@ public class MultiTag extends EntityWithSources {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     private native
@@ -623,7 +638,7 @@ public class MultiTag extends EntityWithSources {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     /**
@@ -683,7 +698,7 @@ public class MultiTag extends EntityWithSources {
      * @see DataArray
      */
     public List<DataArray> getReferences() {
-        return references().getDataArrays();
+        return track(references().getDataArrays());
     }
 
     /**
@@ -788,7 +803,7 @@ public class MultiTag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     private native
@@ -808,7 +823,7 @@ public class MultiTag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     private native
@@ -822,7 +837,7 @@ public class MultiTag extends EntityWithSources {
      * @see Feature
      */
     public List<Feature> getFeatures() {
-        return features().getFeatures();
+        return track(features().getFeatures());
     }
 
     /**
@@ -863,7 +878,7 @@ public class MultiTag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     private native
@@ -884,7 +899,7 @@ public class MultiTag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     /**
@@ -4,6 +4,7 @@ import org.bytedeco.javacpp.Loader;
 import org.bytedeco.javacpp.LongPointer;
 import org.bytedeco.javacpp.Pointer;
 import org.bytedeco.javacpp.annotation.*;
+import org.g_node.nix.base.NativeScope;
 import org.g_node.nix.internal.BuildLibs;
 
 /**
@@ -34,6 +35,7 @@ public class NDSize extends Pointer {
      */
     public NDSize() {
         allocate();
+        NativeScope.attach(this);
     }
 
     private native void allocate();
@@ -45,6 +47,7 @@ public class NDSize extends Pointer {
      */
     public NDSize(@Cast("size_t") long rank) {
         allocate(rank);
+        NativeScope.attach(this);
     }
 
     private native void allocate(@Cast("size_t") long rank);
@@ -57,6 +60,7 @@ public class NDSize extends Pointer {
      */
     public NDSize(@Cast("size_t") long rank, @Cast("nix::ndsize_t") long fillValue) {
         allocate(rank, fillValue);
+        NativeScope.attach(this);
     }
 
     private native void allocate(@Cast("size_t") long rank, @Cast("nix::ndsize_t") long fillValue);
@@ -68,10 +72,30 @@ public class NDSize extends Pointer {
      */
     public NDSize(@Cast({"", "std::vector<int>&"}) @StdVector int[] args) {
         allocate(args);
+        NativeScope.attach(this);
     }
 
     private native void allocate(@Cast({"", "std::vector<int>&"}) @StdVector int[] args);
 
+    /**
+     * Specify dimensions as array of long values, e.g. for extents beyond {@link Integer#MAX_VALUE}.
+     *
+     * @param args dimensions.
+     */
+    public NDSize(long[] args) {
+        allocate(args.length, 0);
+        set(args);
+        NativeScope.attach(this);
+    }
+
+    /**
+     * Release the native object. The object must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        deallocate();
+    }
+
     /**
      * Get rank.
      *
@@ -91,11 +115,13 @@ public class NDSize extends Pointer {
     long getElementsProduct();
 
     private native
-    @Cast("const nix::ndsize_t*")
+    @Cast("nix::ndsize_t*")
     LongPointer data();
 
     /**
      * Get dimensions.
+     * <p>
+     * Values beyond {@link Integer#MAX_VALUE} are truncated, use {@link #getLongData()} for large extents.
      *
      * @return dimensions array
      */
@@ -109,6 +135,162 @@ public class NDSize extends Pointer {
         return data;
     }
 
+    /**
+     * Get dimensions.
+     *
+     * @return dimensions array
+     */
+    public long[] getLongData() {
+        return getData(new long[(int) getSize()]);
+    }
+
+    /**
+     * Copy the dimensions into an existing array.
+     *
+     * @param data array of at least the rank's length.
+     * @return data
+     */
+    public long[] getData(long[] data) {
+        int len = (int) getSize();
+        if (data.length < len) {
+            throw new IllegalArgumentException("array shorter than rank");
+        }
+        data().get(data, 0, len);
+        return data;
+    }
+
+    /**
+     * Get a single dimension.
+     *
+     * @param index index of the dimension.
+     * @return the dimension.
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return data().get(index);
+    }
+
+    /**
+     * Set a single dimension in place.
+     *
+     * @param index index of the dimension.
+     * @param value the new value.
+     * @return this NDSize.
+     */
+    public NDSize set(int index, long value) {
+        checkIndex(index);
+        data().put(index, value);
+        return this;
+    }
+
+    /**
+     * Set all dimensions in place. The number of values must match the rank.
+     *
+     * @param values the new values.
+     * @return this NDSize.
+     */
+    public NDSize set(long[] values) {
+        if (values.length != getSize()) {
+            throw new IllegalArgumentException("number of values must match the rank");
+        }
+        data().put(values, 0, values.length);
+        return this;
+    }
+
+    @Name("operator =")
+    private native void assign(@Const @ByRef NDSize other);
+
+    /**
+     * Copy rank and dimensions of another NDSize into this one.
+     *
+     * @param other the NDSize to copy.
+     * @return this NDSize.
+     */
+    public NDSize copyFrom(NDSize other) {
+        assign(other);
+        return this;
+    }
+
+    @Name("operator +=")
+    private native void addAssign(@Const @ByRef NDSize other);
+
+    @Name("operator +=")
+    private native void addAssign(@Cast("nix::ndsize_t") long value);
+
+    @Name("operator -=")
+    private native void subAssign(@Const @ByRef NDSize other);
+
+    @Name("operator -=")
+    private native void subAssign(@Cast("nix::ndsize_t") long value);
+
+    /**
+     * Add the dimensions of another NDSize of the same rank in place.
+     *
+     * @param other the NDSize to add.
+     * @return this NDSize.
+     */
+    public NDSize add(NDSize other) {
+        checkRank(other);
+        addAssign(other);
+        return this;
+    }
+
+    /**
+     * Add a value to all dimensions in place.
+     *
+     * @param value the value to add.
+     * @return this NDSize.
+     */
+    public NDSize add(long value) {
+        addAssign(value);
+        return this;
+    }
+
+    /**
+     * Subtract the dimensions of another NDSize of the same rank in place.
+     *
+     * @param other the NDSize to subtract.
+     * @return this NDSize.
+     */
+    public NDSize sub(NDSize other) {
+        checkRank(other);
+        subAssign(other);
+        return this;
+    }
+
+    /**
+     * Subtract a value from all dimensions in place.
+     *
+     * @param value the value to subtract.
+     * @return this NDSize.
+     */
+    public NDSize sub(long value) {
+        subAssign(value);
+        return this;
+    }
+
+    /**
+     * Get the dot product with another NDSize of the same rank.
+     *
+     * @param other the other NDSize.
+     * @return dot product.
+     */
+    public native
+    @Cast("nix::ndsize_t")
+    long dot(@Const @ByRef NDSize other);
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= getSize()) {
+            throw new IndexOutOfBoundsException("index " + index + " out of rank " + getSize());
+        }
+    }
+
+    private void checkRank(NDSize other) {
+        if (other.getSize() != getSize()) {
+            throw new IllegalArgumentException("ranks must match");
+        }
+    }
+
     /**
      * Fill dimensions with a value.
      *
@@ -140,8 +322,8 @@ public class NDSize extends Pointer {
             return false;
         }
 
-        int[] dims1 = this.getData();
-        int[] dims2 = ((NDSize) obj).getData();
+        long[] dims1 = this.getLongData();
+        long[] dims2 = ((NDSize) obj).getLongData();
 
         if (dims1.length != dims2.length) {
             return false;
@@ -159,7 +341,7 @@ public class NDSize extends Pointer {
     @Override
     public String toString() {
         StringBuilder data = new StringBuilder("[ ");
-        int[] dims = getData();
+        long[] dims = getLongData();
         for (int i = 0; i < dims.length; i++) {
             data.append(dims[i]);
             if (i != dims.length - 1) {
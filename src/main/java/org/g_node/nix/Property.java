@@ -5,6 +5,7 @@ import org.bytedeco.javacpp.annotation.*;
 import org.g_node.nix.internal.*;
 import org.g_node.nix.base.Entity;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -25,7 +26,7 @@ import java.util.List;
  */
 
 @Properties(value = {
-        @Platform(include = {"<nix/Property.hpp>"}),
+        @Platform(include = {"<nix/Property.hpp>", "propertyhelper.hpp"}),
         @Platform(value = "linux", link = BuildLibs.NIX_1, preload = BuildLibs.HDF5_7),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
         @Platform(value = "windows",
@@ -60,15 +61,19 @@ public class Property extends Entity implements Comparable<Property> {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the property.
      *
      * @return ID string
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -80,7 +85,7 @@ public class Property extends Entity implements Comparable<Property> {
      * @return The creation date of the property.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -106,10 +111,16 @@ public class Property extends Entity implements Comparable<Property> {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -120,6 +131,7 @@ public class Property extends Entity implements Comparable<Property> {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
 
@@ -127,6 +139,11 @@ public class Property extends Entity implements Comparable<Property> {
     // Attribute getter and setter
     //--------------------------------------------------
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the property.
      * <p>
@@ -136,10 +153,9 @@ public class Property extends Entity implements Comparable<Property> {
      *
      * @return string The name of the property.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -228,12 +244,21 @@ public class Property extends Entity implements Comparable<Property> {
     // Methods for Value access
     //--------------------------------------------------
 
+    private native
+    @Name("deleteValues")
+    void clearValues();
+
     /**
      * Deletes all values from the property.
      *
      * @see Variant
      */
-    public native void deleteValues();
+    public void deleteValues() {
+        clearValues();
+        if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyChanged(this);
+        }
+    }
 
     /**
      * Get the number of values of the property.
@@ -255,6 +280,9 @@ public class Property extends Entity implements Comparable<Property> {
      */
     public void setValues(List<Variant> values) {
         values(new VectorUtils.VariantVector(values));
+        if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyChanged(this);
+        }
     }
 
     private native
@@ -271,6 +299,120 @@ public class Property extends Entity implements Comparable<Property> {
         return values().getValues();
     }
 
+    @Namespace("::nix_java")
+    @Name("property_get_doubles")
+    private static native void getDoubles(@Const @ByRef Property property, @Cast("double*") double[] data,
+                                          @Cast("size_t") long n);
+
+    @Namespace("::nix_java")
+    @Name("property_get_longs")
+    private static native void getLongs(@Const @ByRef Property property, @Cast("int64_t*") long[] data,
+                                        @Cast("size_t") long n);
+
+    @Namespace("::nix_java")
+    @Name("property_get_strings")
+    private static native
+    @ByVal
+    VectorUtils.StringVector getStrings(@Const @ByRef Property property);
+
+    @Namespace("::nix_java")
+    @Name("property_set_doubles")
+    private static native void setDoubles(@ByRef Property property, @Cast("const double*") double[] data,
+                                          @Cast("size_t") long n);
+
+    @Namespace("::nix_java")
+    @Name("property_set_longs")
+    private static native void setLongs(@ByRef Property property, @Cast("const int64_t*") long[] data,
+                                        @Cast("size_t") long n);
+
+    @Namespace("::nix_java")
+    @Name("property_set_strings")
+    private static native void setStrings(@ByRef Property property, @Const @ByRef VectorUtils.StringVector strings);
+
+    /**
+     * Get all values of the property as doubles.
+     * <p>
+     * The values are copied with a single call without creating a {@link Variant} per value.
+     * Integer values are converted, other values cause a {@link RuntimeException}.
+     *
+     * @return The values of the property.
+     * @see #getValues()
+     */
+    public double[] getDoubleValues() {
+        double[] data = new double[(int) getValueCount()];
+        getDoubles(this, data, data.length);
+        return data;
+    }
+
+    /**
+     * Get all values of the property as long integers.
+     * <p>
+     * The values are copied with a single call without creating a {@link Variant} per value.
+     * Values that are not integers cause a {@link RuntimeException}.
+     *
+     * @return The values of the property.
+     * @see #getValues()
+     */
+    public long[] getLongValues() {
+        long[] data = new long[(int) getValueCount()];
+        getLongs(this, data, data.length);
+        return data;
+    }
+
+    /**
+     * Get all values of the property as strings.
+     * <p>
+     * Values that are not strings cause a {@link RuntimeException}.
+     *
+     * @return The values of the property.
+     * @see #getValues()
+     */
+    public String[] getStringValues() {
+        List<String> strings = getStrings(this).getStrings();
+        return strings.toArray(new String[strings.size()]);
+    }
+
+    /**
+     * Set the values of the property from an array of doubles.
+     * <p>
+     * The values are passed with a single call without creating a {@link Variant} per value.
+     *
+     * @param values The values to set.
+     * @see #setValues(List)
+     */
+    public void setValues(double[] values) {
+        setDoubles(this, values, values.length);
+        if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyChanged(this);
+        }
+    }
+
+    /**
+     * Set the values of the property from an array of long integers.
+     *
+     * @param values The values to set.
+     * @see #setValues(double[])
+     */
+    public void setValues(long[] values) {
+        setLongs(this, values, values.length);
+        if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyChanged(this);
+        }
+    }
+
+    /**
+     * Set the values of the property from an array of strings.
+     *
+     * @param values The values to set.
+     * @see #setValues(double[])
+     */
+    public void setValues(String[] values) {
+        setStrings(this, new VectorUtils.StringVector(Arrays.asList(values)));
+        if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyChanged(this);
+        }
+    }
+
     //--------------------------------------------------
     // Overrides
     //--------------------------------------------------
@@ -0,0 +1,52 @@
+package org.g_node.nix;
+
+import java.util.Arrays;
+
+/**
+ * Axis of a range dimension backed by a copy of its ticks.
+ */
+final class RangeAxis implements Axis {
+
+    private final double[] ticks;
+
+    RangeAxis(double[] ticks) {
+        this.ticks = ticks != null ? ticks : new double[0];
+    }
+
+    int size() {
+        return ticks.length;
+    }
+
+    @Override
+    public double positionAt(long index) {
+        if (index < 0 || index >= ticks.length) {
+            throw new IndexOutOfBoundsException("Index is out of bounds of this dimension");
+        }
+        return ticks[(int) index];
+    }
+
+    @Override
+    public long indexOf(double position) {
+        if (ticks.length == 0) {
+            throw new IndexOutOfBoundsException("Dimension has no ticks");
+        }
+        if (position < ticks[0]) {
+            return 0;
+        }
+        int last = ticks.length - 1;
+        if (position > ticks[last]) {
+            return last;
+        }
+        // the last tick that is less or equal to the position
+        int i = Arrays.binarySearch(ticks, position);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    @Override
+    public void fill(double[] dst, long startIndex, int count) {
+        if (startIndex < 0 || count < 0 || startIndex + count > ticks.length) {
+            throw new IndexOutOfBoundsException("Index is out of bounds of this dimension");
+        }
+        System.arraycopy(ticks, (int) startIndex, dst, 0, count);
+    }
+}
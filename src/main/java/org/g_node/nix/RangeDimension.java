@@ -9,6 +9,8 @@ import org.g_node.nix.base.ImplContainer;
 import org.g_node.nix.internal.BuildLibs;
 import org.g_node.nix.internal.OptionalUtils;
 
+import java.nio.DoubleBuffer;
+
 /**
  * <h1>RangeDimension</h1>
  * Dimension descriptor for a dimension that is irregularly sampled.
@@ -37,6 +39,9 @@ public class RangeDimension<T extends RangeDimension> extends ImplContainer impl
         Loader.load();
     }
 
+    // no initializer since instances returned by value bypass the constructor
+    private RangeAxis tickCache;
+
     //--------------------------------------------------
     // Constructors
     //--------------------------------------------------
@@ -192,6 +197,18 @@ public class RangeDimension<T extends RangeDimension> extends ImplContainer impl
         return VectorUtils.convertPointerToArray(ticks());
     }
 
+    /**
+     * Get the ticks of the dimension in a direct buffer.
+     * <p>
+     * The ticks are copied at once into off-heap memory, which suits large
+     * dimensions better than {@link #getTicks()}.
+     *
+     * @return A buffer with all ticks or <tt>null</tt> if there are none.
+     */
+    public DoubleBuffer getTicksBuffer() {
+        return VectorUtils.convertPointerToBuffer(ticks());
+    }
+
     /**
      * Set the ticks array for the dimension.
      * <p>
@@ -199,9 +216,14 @@ public class RangeDimension<T extends RangeDimension> extends ImplContainer impl
      *
      * @param ticks The new ticks for the dimension provided as an array.
      */
-    public native
-    @Name("ticks")
-    void setTicks(@StdVector double[] ticks);
+    public void setTicks(double[] ticks) {
+        ticks(ticks);
+        if (tickCache != null) {
+            tickCache = new RangeAxis(ticks.clone());
+        }
+    }
+
+    private native void ticks(@StdVector double[] ticks);
 
     /**
      * Returns the entry of the range dimension at a given index.
@@ -209,9 +231,14 @@ public class RangeDimension<T extends RangeDimension> extends ImplContainer impl
      * @param index The index.
      * @return The tick at the given index.
      */
-    public native
-    @Name("tickAt")
-    double getTickAt(@Cast("const size_t") long index);
+    public double getTickAt(long index) {
+        if (tickCache != null) {
+            return tickCache.positionAt(index);
+        }
+        return tickAt(index);
+    }
+
+    private native double tickAt(@Cast("const size_t") long index);
 
     /**
      * Returns the index of the given position.
@@ -221,10 +248,40 @@ public class RangeDimension<T extends RangeDimension> extends ImplContainer impl
      * @param position The position.
      * @return The respective index.
      */
-    public native
-    @Name("indexOf")
+    public long getIndexOf(double position) {
+        if (tickCache != null) {
+            return tickCache.indexOf(position);
+        }
+        return indexOf(position);
+    }
+
+    private native
     @Cast("size_t")
-    long getIndexOf(double position);
+    long indexOf(double position);
+
+    /**
+     * Enables or disables the tick cache of this object.
+     * <p>
+     * While enabled the ticks are kept in memory and {@link #getTickAt(long)}, {@link #getIndexOf(double)}
+     * and {@link #getAxisView()} do not read the file. The cache is refreshed by {@link #setTicks(double[])}
+     * but not by changes through other objects of the same dimension or, for an alias, of the linked
+     * data array. It is disabled by default.
+     *
+     * @param enabled True to read and keep the ticks, false to drop them.
+     */
+    public void setTickCacheEnabled(boolean enabled) {
+        tickCache = enabled ? new RangeAxis(getTicks()) : null;
+    }
+
+    /**
+     * Tells if the ticks of this object are cached.
+     *
+     * @return True if the tick cache is enabled, false otherwise.
+     * @see #setTickCacheEnabled(boolean)
+     */
+    public boolean isTickCacheEnabled() {
+        return tickCache != null;
+    }
 
     private native
     @StdVector
@@ -244,6 +301,34 @@ public class RangeDimension<T extends RangeDimension> extends ImplContainer impl
         return VectorUtils.convertPointerToArray(axis(count, startIndex));
     }
 
+    /**
+     * Returns a number of ticks in a direct buffer.
+     *
+     * @param count      The number of ticks.
+     * @param startIndex The starting index.
+     * @return buffer containing the ticks.
+     * @see #getAxis(long, long)
+     */
+    public DoubleBuffer getAxisBuffer(long count, long startIndex) {
+        return VectorUtils.convertPointerToBuffer(axis(count, startIndex));
+    }
+
+    /**
+     * Returns a view on the ticks of this dimension that is evaluated in Java.
+     * <p>
+     * The ticks are read once, the view can be kept e.g. per data array and is not
+     * affected by later changes of the ticks.
+     *
+     * @return The axis view.
+     * @see Axis
+     */
+    public Axis getAxisView() {
+        if (tickCache != null) {
+            return tickCache;
+        }
+        return new RangeAxis(getTicks());
+    }
+
     private native
     @StdVector
     DoublePointer axis(@Cast("const size_t") long count);
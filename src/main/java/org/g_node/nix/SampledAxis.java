@@ -0,0 +1,44 @@
+package org.g_node.nix;
+
+/**
+ * Axis of a sampled dimension computed from offset and sampling interval.
+ */
+final class SampledAxis implements Axis {
+
+    private final double offset;
+    private final double samplingInterval;
+
+    SampledAxis(double offset, double samplingInterval) {
+        this.offset = offset;
+        this.samplingInterval = samplingInterval;
+    }
+
+    @Override
+    public double positionAt(long index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index is out of bounds of this dimension");
+        }
+        return index * samplingInterval + offset;
+    }
+
+    @Override
+    public long indexOf(double position) {
+        double index = (position - offset) / samplingInterval;
+        // rounds half away from zero like std::round
+        index = Math.signum(index) * Math.floor(Math.abs(index) + 0.5);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Position is out of bounds of this dimension");
+        }
+        return (long) index;
+    }
+
+    @Override
+    public void fill(double[] dst, long startIndex, int count) {
+        if (startIndex < 0 || count < 0 || count > dst.length) {
+            throw new IndexOutOfBoundsException("Index is out of bounds of this dimension");
+        }
+        for (int i = 0; i < count; i++) {
+            dst[i] = (startIndex + i) * samplingInterval + offset;
+        }
+    }
+}
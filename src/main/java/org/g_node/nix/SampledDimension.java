@@ -9,6 +9,8 @@ import org.g_node.nix.internal.None;
 import org.g_node.nix.internal.OptionalUtils;
 import org.g_node.nix.internal.VectorUtils;
 
+import java.nio.DoubleBuffer;
+
 /**
  * <h1>SampledDimension</h1>
  * Dimension descriptor for regularly sampled dimensions.
@@ -272,6 +274,30 @@ public class SampledDimension<T extends SampledDimension> extends ImplContainer
         return VectorUtils.convertPointerToArray(axis(count, startIndex));
     }
 
+    /**
+     * Returns the positions defined by this dimension in a direct buffer.
+     *
+     * @param count      The number of indices
+     * @param startIndex The start index
+     * @return buffer containing the respective dimension.
+     * @see #getAxis(long, long)
+     */
+    public DoubleBuffer getAxisBuffer(long count, long startIndex) {
+        return VectorUtils.convertPointerToBuffer(axis(count, startIndex));
+    }
+
+    /**
+     * Returns a view that computes the positions of this dimension in Java.
+     * <p>
+     * The view uses the offset and sampling interval at the time of the call.
+     *
+     * @return The axis view.
+     * @see Axis
+     */
+    public Axis getAxisView() {
+        return new SampledAxis(getOffset(), getSamplingInterval());
+    }
+
     private native
     @StdVector
     DoublePointer axis(@Cast("const size_t") long count);
@@ -8,6 +8,9 @@ import org.g_node.nix.base.NamedEntity;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <h1>Section</h1>
@@ -15,7 +18,7 @@ import java.util.function.Predicate;
  */
 
 @Properties(value = {
-        @Platform(include = {"<nix/Section.hpp>"}),
+        @Platform(include = {"<nix/Section.hpp>", "entityfilterhelper.hpp"}),
         @Platform(value = "linux", link = BuildLibs.NIX_1, preload = BuildLibs.HDF5_7),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
         @Platform(value = "windows",
@@ -43,6 +46,20 @@ public class Section extends NamedEntity {
 
     private native void allocate();
 
+    /**
+     * Constructor that creates another handle to the same section.
+     * <p>
+     * The handle does not belong to a {@link org.g_node.nix.base.NativeScope}, it stays valid
+     * when the section it was created from is released.
+     *
+     * @param section The section.
+     */
+    Section(Section section) {
+        allocate(section);
+    }
+
+    private native void allocate(@Const @ByRef Section section);
+
     //--------------------------------------------------
     // Base class methods
     //--------------------------------------------------
@@ -51,15 +68,19 @@ public class Section extends NamedEntity {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the section.
      *
      * @return ID string.
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -71,7 +92,7 @@ public class Section extends NamedEntity {
      * @return The creation date of the section.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -97,10 +118,16 @@ public class Section extends NamedEntity {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -111,16 +138,24 @@ public class Section extends NamedEntity {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
+    private native
+    @Name("type")
+    void type(@StdString String type);
+
     /**
      * Setter for the type of the section.
      *
      * @param type The type of the section.
      */
-    public native
-    @Name("type")
-    void setType(@StdString String type);
+    public void setType(String type) {
+        type(type);
+        if (MetadataEvents.isActive()) {
+            MetadataEvents.sectionChanged(this);
+        }
+    }
 
     /**
      * Getter for the type of the section.
@@ -132,15 +167,19 @@ public class Section extends NamedEntity {
     @StdString
     String getType();
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the section.
      *
      * @return The name of the section.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -259,7 +298,7 @@ public class Section extends NamedEntity {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     private native void link(@Const @ByVal None t);
@@ -295,7 +334,7 @@ public class Section extends NamedEntity {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     //--------------------------------------------------
@@ -351,7 +390,7 @@ public class Section extends NamedEntity {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     private native
@@ -371,7 +410,7 @@ public class Section extends NamedEntity {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     private native
@@ -385,7 +424,7 @@ public class Section extends NamedEntity {
      * @see Section
      */
     public List<Section> getSections() {
-        return sections().getSections();
+        return track(sections().getSections());
     }
 
     /**
@@ -408,14 +447,40 @@ public class Section extends NamedEntity {
         return result;
     }
 
-    private static class SectionCont {
-        final Section entity;
-        final int depth;
+    @Namespace("::nix_java")
+    @Name("filter_sections")
+    private static native
+    @ByVal
+    VectorUtils.SectionVector filterSections(@Const @ByRef Section section, @StdString String type, @StdString String namePrefix,
+                                             @StdString String metadataId, @StdString String sourceId,
+                                             @Cast("time_t") long createdFrom, @Cast("time_t") long createdTo);
 
-        public SectionCont(Section entity, int depth) {
-            this.entity = entity;
-            this.depth = depth;
-        }
+    /**
+     * Get the subsections of this section that match a filter.
+     * <p>
+     * The filter is evaluated by the back-end, only matching subsections are passed to Java.
+     * Only type, name prefix and creation time of the filter apply to sections.
+     *
+     * @param filter The entity filter.
+     * @return A list that contains all matching subsections.
+     * @see EntityFilter
+     */
+    public List<Section> getSections(EntityFilter filter) {
+        filter.checkSectionFilter();
+        return track(filterSections(this, filter.getType(), filter.getNamePrefix(), filter.getMetadataId(),
+                filter.getSourceId(), filter.getCreatedFrom(), filter.getCreatedTo()).getSections());
+    }
+
+    /**
+     * Stream the subsections of this section.
+     * <p>
+     * The subsections are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the subsections.
+     * @see Section
+     */
+    public Stream<Section> getSectionStream() {
+        return ListBuilder.stream(this::getSectionCount, this::getSection);
     }
 
     /**
@@ -432,30 +497,58 @@ public class Section extends NamedEntity {
      * @see Section
      */
     public List<Section> findSections(Predicate<Section> filter, int maxDepth) {
-        List<Section> results = new ArrayList<>();
-        Queue<SectionCont> todo = new LinkedList<>();
-        int level = 0;
-
-        todo.add(new SectionCont(this, level));
-
-        while (todo.size() > 0) {
-            SectionCont current = todo.remove();
-
-            if (filter.test(current.entity)) {
-                results.add(current.entity);
-            }
+        return findSectionStream(filter, maxDepth).collect(Collectors.toList());
+    }
 
-            if (current.depth < maxDepth) {
-                List<Section> children = current.entity.getSections();
-                int next_depth = current.depth + 1;
+    /**
+     * Get at most a given number of descendant sections of the section recursively.
+     * <p>
+     * The traversal is the same as in {@link Section#findSections(Predicate, int)}, but
+     * it stops as soon as enough matching sections are found.
+     *
+     * @param filter     A filter function.
+     * @param maxDepth   The maximum depth of traversal.
+     * @param maxResults The maximum number of sections to return.
+     * @return A list containing the first matching descendant sections.
+     * @see Section
+     */
+    public List<Section> findSections(Predicate<Section> filter, int maxDepth, int maxResults) {
+        return findSectionStream(filter, maxDepth).limit(maxResults).collect(Collectors.toList());
+    }
 
-                for (Section child : children) {
-                    todo.add(new SectionCont(child, next_depth));
-                }
-            }
-        }
+    /**
+     * Stream the descendant sections of the section that match a filter.
+     * <p>
+     * The sub-tree is traversed breadth first while the stream is consumed, the children of
+     * a section are only fetched once the section is reached. Hence short-circuiting operations
+     * like <tt>findFirst</tt> or <tt>limit</tt> stop the traversal early.
+     *
+     * @param filter   A filter function.
+     * @param maxDepth The maximum depth of traversal.
+     * @return A sequential stream of the matching descendant sections.
+     * @see Section
+     */
+    public Stream<Section> findSectionStream(Predicate<Section> filter, int maxDepth) {
+        return SectionSearch.stream(Collections.singletonList(this).iterator(), filter, maxDepth);
+    }
 
-        return results;
+    /**
+     * Get all descendant sections of the section recursively, using several threads.
+     * <p>
+     * The sub-trees of the children are searched as separate tasks on the common
+     * {@link java.util.concurrent.ForkJoinPool}. Calls into the back-end are serialized by the
+     * {@link org.g_node.nix.internal.BackendLock}, which must not be held by the calling thread.
+     * The filter is evaluated while holding the lock, together with fetching the children of
+     * the section, so it may access the back-end like any other code. The results are in
+     * depth first pre-order.
+     *
+     * @param filter   A filter function.
+     * @param maxDepth The maximum depth of traversal.
+     * @return A list containing the matching descendant sections.
+     * @see Section
+     */
+    public List<Section> findSectionsParallel(Predicate<Section> filter, int maxDepth) {
+        return SectionSearch.parallel(Collections.singletonList(this), filter, maxDepth, ForkJoinPool.commonPool());
     }
 
     /**
@@ -507,32 +600,19 @@ public class Section extends NamedEntity {
 
     /**
      * Find all related sections of the section.
+     * <p>
+     * To search related sections of many sections of the same file use a {@link SectionTree},
+     * which keeps the relations between calls.
      *
      * @param filter A filter function.
      * @return A list containing all filtered related sections.
      * @see Section
+     * @see SectionTree
      */
     public List<Section> findRelated(Predicate<Section> filter) {
-        List<Section> results = findDownstream(filter);
-
-        String myId = getId();
-
-        //This checking of results can be removed if we decide not to include this in findSection
-        results.removeIf(s -> s.getId().equals(myId));
-        int resultsSize = results.size();
-
-        if (resultsSize == 0) {
-            results = findUpstream(filter);
+        try (SectionTree tree = new SectionTree(false)) {
+            return tree.findRelated(this, filter);
         }
-
-        //This checking of results can be removed if we decide not to include this in findSection
-        results.removeIf(s -> s.getId().equals(myId));
-        resultsSize = results.size();
-
-        if (resultsSize == 0) {
-            results = findSideways(filter, getId());
-        }
-        return results;
     }
 
     /**
@@ -562,10 +642,17 @@ public class Section extends NamedEntity {
         Section section = makeSection(name, type);
         if (section.isNone()) {
             section = null;
+        } else if (MetadataEvents.isActive()) {
+            MetadataEvents.sectionCreated(null, getId(), section);
         }
-        return section;
+        return track(section);
     }
 
+    private native
+    @Name("deleteSection")
+    @Cast("bool")
+    boolean removeSection(@StdString String nameOrId);
+
     /**
      * Deletes a section from the section.
      *
@@ -573,9 +660,22 @@ public class Section extends NamedEntity {
      * @return True if the section was deleted, false otherwise.
      * @see Section
      */
-    public native
+    public boolean deleteSection(String nameOrId) {
+        if (!MetadataEvents.isActive()) {
+            return removeSection(nameOrId);
+        }
+        Section section = getSection(nameOrId);
+        boolean deleted = removeSection(nameOrId);
+        if (deleted && section != null) {
+            MetadataEvents.sectionDeleted(section.getId());
+        }
+        return deleted;
+    }
+
+    private native
+    @Name("deleteSection")
     @Cast("bool")
-    boolean deleteSection(@StdString String nameOrId);
+    boolean removeSection(@Const @ByRef Section section);
 
     /**
      * Deletes a subsection from this Section.
@@ -584,9 +684,14 @@ public class Section extends NamedEntity {
      * @return True if the section was deleted, false otherwise.
      * @see Section
      */
-    public native
-    @Cast("bool")
-    boolean deleteSection(@Const @ByRef Section section);
+    public boolean deleteSection(Section section) {
+        String id = MetadataEvents.isActive() && section != null ? section.getId() : null;
+        boolean deleted = removeSection(section);
+        if (deleted && id != null) {
+            MetadataEvents.sectionDeleted(id);
+        }
+        return deleted;
+    }
 
     //--------------------------------------------------
     // Methods for property access
@@ -641,7 +746,7 @@ public class Section extends NamedEntity {
         if (property.isNone()) {
             property = null;
         }
-        return property;
+        return track(property);
     }
 
     private native
@@ -661,7 +766,7 @@ public class Section extends NamedEntity {
         if (property.isNone()) {
             property = null;
         }
-        return property;
+        return track(property);
     }
 
     private native
@@ -675,7 +780,19 @@ public class Section extends NamedEntity {
      * @see Property
      */
     public List<Property> getProperties() {
-        return properties().getProperties();
+        return track(properties().getProperties());
+    }
+
+    /**
+     * Stream the properties of this section.
+     * <p>
+     * The properties are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the properties.
+     * @see Property
+     */
+    public Stream<Property> getPropertyStream() {
+        return ListBuilder.stream(this::getPropertyCount, this::getProperty);
     }
 
     private native
@@ -690,7 +807,7 @@ public class Section extends NamedEntity {
      * @see Property
      */
     public List<Property> getInheritedProperties() {
-        return inheritedProperties().getProperties();
+        return track(inheritedProperties().getProperties());
     }
 
     private native
@@ -710,8 +827,10 @@ public class Section extends NamedEntity {
         Property property = makeProperty(name, dtype);
         if (property.isNone()) {
             property = null;
+        } else if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyCreated(getId(), property);
         }
-        return property;
+        return track(property);
     }
 
     private native
@@ -731,8 +850,10 @@ public class Section extends NamedEntity {
         Property property = makeProperty(name, value);
         if (property.isNone()) {
             property = null;
+        } else if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyCreated(getId(), property);
         }
-        return property;
+        return track(property);
     }
 
     private native
@@ -752,10 +873,17 @@ public class Section extends NamedEntity {
         Property property = makeProperty(name, new VectorUtils.VariantVector(values));
         if (property.isNone()) {
             property = null;
+        } else if (MetadataEvents.isActive()) {
+            MetadataEvents.propertyCreated(getId(), property);
         }
-        return property;
+        return track(property);
     }
 
+    private native
+    @Name("deleteProperty")
+    @Cast("bool")
+    boolean removeProperty(@StdString String nameOrId);
+
     /**
      * Delete the Property identified by its name or id.
      *
@@ -763,9 +891,22 @@ public class Section extends NamedEntity {
      * @return True if the property was deleted, false otherwise.
      * @see Property
      */
-    public native
+    public boolean deleteProperty(String nameOrId) {
+        if (!MetadataEvents.isActive()) {
+            return removeProperty(nameOrId);
+        }
+        Property property = getProperty(nameOrId);
+        boolean deleted = removeProperty(nameOrId);
+        if (deleted && property != null) {
+            MetadataEvents.propertyDeleted(property.getId());
+        }
+        return deleted;
+    }
+
+    private native
+    @Name("deleteProperty")
     @Cast("bool")
-    boolean deleteProperty(@StdString String nameOrId);
+    boolean removeProperty(@Const @ByRef Property property);
 
     /**
      * Deletes the Property from this section.
@@ -774,63 +915,13 @@ public class Section extends NamedEntity {
      * @return True if the property was deleted, false otherwise.
      * @see Property
      */
-    public native
-    @Cast("bool")
-    boolean deleteProperty(@Const @ByRef Property property);
-
-    //------------------------------------------------------
-    // Other functions
-    //------------------------------------------------------
-
-    private int treeDepth() {
-        List<Section> children = getSections();
-        int depth = 0;
-        if (children.size() > 0) {
-            for (Section child : children) {
-                depth = Math.max(depth, child.treeDepth());
-            }
-            depth += 1;
-        }
-        return depth;
-    }
-
-    private List<Section> findDownstream(Predicate<Section> filter) {
-        List<Section> results = new ArrayList<>();
-        int max_depth = treeDepth();
-        int actual_depth = 1;
-        while (results.size() == 0 && actual_depth <= max_depth) {
-            results = findSections(filter, actual_depth);
-            actual_depth += 1;
-        }
-        return results;
-    }
-
-    private List<Section> findUpstream(Predicate<Section> filter) {
-        List<Section> results = new ArrayList<>();
-        Section p = parent();
-
-        if (p != null) {
-            results = p.findSections(filter, 1);
-            if (results.size() > 0) {
-                return results;
-            }
-            return p.findUpstream(filter);
-        }
-        return results;
-    }
-
-    private List<Section> findSideways(Predicate<Section> filter, String callerId) {
-        List<Section> results = new ArrayList<>();
-        Section p = parent();
-        if (p != null) {
-            results = p.findSections(filter, 1);
-            if (results.size() > 0) {
-                results.removeIf(s -> s.getId().equals(callerId));
-                return results;
-            }
-            return p.findSideways(filter, callerId);
+    public boolean deleteProperty(Property property) {
+        String id = MetadataEvents.isActive() && property != null ? property.getId() : null;
+        boolean deleted = removeProperty(property);
+        if (deleted && id != null) {
+            MetadataEvents.propertyDeleted(id);
         }
-        return results;
+        return deleted;
     }
 
     //--------------------------------------------------
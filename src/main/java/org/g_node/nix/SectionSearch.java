@@ -0,0 +1,145 @@
+package org.g_node.nix;
+
+import org.g_node.nix.internal.BackendLock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Traversal of section trees used by {@link Section} and {@link File}.
+ */
+final class SectionSearch {
+
+    private SectionSearch() {
+    }
+
+    /**
+     * Breadth first search over the trees below each root, one tree after the other.
+     * Children are fetched when their parent is visited.
+     */
+    static Stream<Section> stream(Iterator<Section> roots, Predicate<Section> filter, int maxDepth) {
+        return StreamSupport.stream(new BreadthFirst(roots, filter, maxDepth), false);
+    }
+
+    /**
+     * Search the trees below the roots on a fork join pool. The children of a section are
+     * fetched and the filter is applied to the section under a single acquisition of the
+     * {@link BackendLock}, the filter may thus use the back-end freely. The results are in
+     * depth first pre-order.
+     */
+    static List<Section> parallel(List<Section> roots, Predicate<Section> filter, int maxDepth, ForkJoinPool pool) {
+        if (BackendLock.get().isHeldByCurrentThread()) {
+            throw new IllegalStateException("parallel search must not be started while holding the back-end lock");
+        }
+        return pool.invoke(new Search(null, roots, -1, filter, maxDepth));
+    }
+
+    private static final class Node {
+        final Section section;
+        final int depth;
+
+        Node(Section section, int depth) {
+            this.section = section;
+            this.depth = depth;
+        }
+    }
+
+    private static final class BreadthFirst extends Spliterators.AbstractSpliterator<Section> {
+        private final Iterator<Section> roots;
+        private final Predicate<Section> filter;
+        private final int maxDepth;
+        private final ArrayDeque<Node> todo = new ArrayDeque<>();
+
+        BreadthFirst(Iterator<Section> roots, Predicate<Section> filter, int maxDepth) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.roots = roots;
+            this.filter = filter;
+            this.maxDepth = maxDepth;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Section> action) {
+            while (true) {
+                if (todo.isEmpty()) {
+                    if (!roots.hasNext()) {
+                        return false;
+                    }
+                    todo.add(new Node(roots.next(), 0));
+                }
+
+                Node current = todo.remove();
+                if (current.depth < maxDepth) {
+                    long count = current.section.getSectionCount();
+                    for (long i = 0; i < count; i++) {
+                        todo.add(new Node(current.section.getSection(i), current.depth + 1));
+                    }
+                }
+
+                if (filter.test(current.section)) {
+                    action.accept(current.section);
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class Search extends RecursiveTask<List<Section>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Section section;
+        private final List<Section> children;
+        private final int depth;
+        private final Predicate<Section> filter;
+        private final int maxDepth;
+
+        Search(Section section, List<Section> children, int depth, Predicate<Section> filter, int maxDepth) {
+            this.section = section;
+            this.children = children;
+            this.depth = depth;
+            this.filter = filter;
+            this.maxDepth = maxDepth;
+        }
+
+        @Override
+        protected List<Section> compute() {
+            boolean match = false;
+            List<Section> next = children;
+
+            if (section != null) {
+                List<Section> fetched = new ArrayList<>();
+                match = BackendLock.call(() -> {
+                    if (depth < maxDepth) {
+                        fetched.addAll(section.getSections());
+                    }
+                    return filter.test(section);
+                });
+                next = fetched;
+            }
+
+            List<Search> tasks = new ArrayList<>(next.size());
+            for (Section child : next) {
+                tasks.add(new Search(child, null, depth + 1, filter, maxDepth));
+            }
+            invokeAll(tasks);
+
+            List<Section> results = new ArrayList<>();
+            if (match) {
+                results.add(section);
+            }
+            for (Search task : tasks) {
+                results.addAll(task.join());
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package org.g_node.nix;
+
+import org.g_node.nix.base.NativeScope;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * <h1>SectionTree</h1>
+ * Memoizes the parent and child relations of sections for repeated traversals.
+ * <p>
+ * The relations are fetched once when a traversal first needs them and are reused by all later
+ * traversals, e.g. when {@link #findRelated(Section, Predicate)} is called for the metadata of
+ * many entities of the same file. The filter functions are still evaluated on every call.
+ * Sections created through the bindings are added to the tree, deleting a section discards
+ * all memoized relations. Changes made to the file by other means are not reflected.
+ * The tree keeps its own handles to the sections, the sections it returns are new handles
+ * that belong to the current {@link NativeScope}, if any.
+ * <pre><code>
+ *     try (SectionTree tree = new SectionTree()) {
+ *         for (DataArray da : block.getDataArrays()) {
+ *             List&lt;Section&gt; stimuli = tree.findRelated(da.getMetadata(),
+ *                     (Section s) -&gt; s.getType().equals("stimulus"));
+ *             ...
+ *         }
+ *     }
+ * </code></pre>
+ *
+ * @see Section#findRelated(Predicate)
+ */
+public class SectionTree implements AutoCloseable {
+
+    private static final class Node {
+        final Section section;
+        Node parent;
+        boolean parentKnown;
+        List<Node> children;
+
+        Node(Section section) {
+            // an own handle, the one passed may be released by its scope or its owner
+            this.section = new Section(section);
+        }
+    }
+
+    private final class Tracker implements MetadataListener {
+
+        @Override
+        public void sectionCreated(String fileLocation, String parentId, Section section) {
+            added(parentId, section);
+        }
+
+        @Override
+        public void sectionDeleted(String id) {
+            clear();
+        }
+
+        @Override
+        public void sectionChanged(Section section) {
+        }
+
+        @Override
+        public void propertyCreated(String sectionId, Property property) {
+        }
+
+        @Override
+        public void propertyDeleted(String id) {
+        }
+
+        @Override
+        public void propertyChanged(Property property) {
+        }
+    }
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final MetadataListener tracker;
+
+    /**
+     * Creates an empty tree that follows the changes made through the bindings until it is closed.
+     */
+    public SectionTree() {
+        this(true);
+    }
+
+    SectionTree(boolean track) {
+        if (track) {
+            tracker = new Tracker();
+            MetadataEvents.register(tracker);
+        } else {
+            tracker = null;
+        }
+    }
+
+    /**
+     * Find all related sections of a section.
+     * <p>
+     * The sub-tree of the section is searched level by level until a level with matching
+     * sections is found. If there is none the ancestors of the section and their children
+     * are searched, and finally the siblings of the ancestors.
+     *
+     * @param section The section to start from.
+     * @param filter  A filter function.
+     * @return A list containing all filtered related sections.
+     * @see Section#findRelated(Predicate)
+     */
+    public synchronized List<Section> findRelated(Section section, Predicate<Section> filter) {
+        Node self = node(section);
+        Map<Node, Boolean> tested = new IdentityHashMap<>();
+        Predicate<Node> matches = n -> tested.computeIfAbsent(n, k -> filter.test(k.section));
+
+        List<Node> results = downstream(self, matches);
+        results.remove(self);
+
+        if (results.isEmpty()) {
+            results = upstream(self, matches);
+            results.remove(self);
+        }
+
+        if (results.isEmpty()) {
+            results = sideways(self, matches);
+        }
+
+        List<Section> sections = new ArrayList<>(results.size());
+        for (Node n : results) {
+            sections.add(NativeScope.attach(new Section(n.section)));
+        }
+        return sections;
+    }
+
+    /**
+     * Discard all memoized relations.
+     */
+    public synchronized void clear() {
+        for (Node n : nodes.values()) {
+            n.section.close();
+        }
+        nodes.clear();
+    }
+
+    /**
+     * Stop following changes and discard all memoized relations.
+     */
+    @Override
+    public synchronized void close() {
+        if (tracker != null) {
+            MetadataEvents.unregister(tracker);
+        }
+        clear();
+    }
+
+    private synchronized void added(String parentId, Section section) {
+        Node parent = parentId != null ? nodes.get(parentId) : null;
+        if (parent != null && parent.children != null) {
+            Node child = node(section);
+            child.parent = parent;
+            child.parentKnown = true;
+            parent.children.add(child);
+        }
+    }
+
+    // all matches on the first level below the section that has any,
+    // the section itself is included in the levels
+    private List<Node> downstream(Node self, Predicate<Node> matches) {
+        List<Node> results = new ArrayList<>();
+        if (matches.test(self)) {
+            results.add(self);
+        }
+
+        List<Node> level = Collections.singletonList(self);
+        while (true) {
+            List<Node> next = new ArrayList<>();
+            for (Node n : level) {
+                next.addAll(children(n));
+            }
+            if (next.isEmpty()) {
+                return new ArrayList<>();
+            }
+            for (Node n : next) {
+                if (matches.test(n)) {
+                    results.add(n);
+                }
+            }
+            if (!results.isEmpty()) {
+                return results;
+            }
+            level = next;
+        }
+    }
+
+    private List<Node> upstream(Node self, Predicate<Node> matches) {
+        for (Node p = parent(self); p != null; p = parent(p)) {
+            List<Node> results = family(p, matches);
+            if (!results.isEmpty()) {
+                return results;
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    private List<Node> sideways(Node self, Predicate<Node> matches) {
+        for (Node p = parent(self); p != null; p = parent(p)) {
+            List<Node> results = family(p, matches);
+            if (!results.isEmpty()) {
+                results.remove(self);
+                return results;
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    // the section and its children that match
+    private List<Node> family(Node n, Predicate<Node> matches) {
+        List<Node> results = new ArrayList<>();
+        if (matches.test(n)) {
+            results.add(n);
+        }
+        for (Node child : children(n)) {
+            if (matches.test(child)) {
+                results.add(child);
+            }
+        }
+        return results;
+    }
+
+    private Node node(Section section) {
+        return nodes.computeIfAbsent(section.getId(), id -> new Node(section));
+    }
+
+    private Node parent(Node n) {
+        if (!n.parentKnown) {
+            Section p = n.section.getParent();
+            n.parent = p != null ? node(p) : null;
+            n.parentKnown = true;
+        }
+        return n.parent;
+    }
+
+    private List<Node> children(Node n) {
+        if (n.children == null) {
+            long count = n.section.getSectionCount();
+            List<Node> children = new ArrayList<>((int) count);
+            for (long i = 0; i < count; i++) {
+                Node child = node(n.section.getSection(i));
+                child.parent = n;
+                child.parentKnown = true;
+                children.add(child);
+            }
+            n.children = children;
+        }
+        return n.children;
+    }
+}
@@ -0,0 +1,134 @@
+package org.g_node.nix;
+
+import org.g_node.nix.internal.BackendLock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <h1>SharedFile</h1>
+ * A NIX file that is read concurrently from several threads.
+ * <p>
+ * Entities of the NIX data model must not be shared between threads. A shared file
+ * therefore hands out one read-only {@link File} handle per thread, which is opened on
+ * first use and kept until the shared file is closed. All entities obtained from that
+ * handle belong to the calling thread.
+ * <p>
+ * The HDF5 back-end itself serializes access to its global state, independent of the
+ * number of handles. To make this explicit instead of accidental, every call into the
+ * back-end made through {@link SharedFile#read(Function)} holds the process wide
+ * {@link BackendLock}. Work done on the results outside of the reader function runs
+ * in parallel.
+ * <pre><code>
+ *     try (SharedFile shared = File.openShared("recording.h5")) {
+ *         double[] data = shared.read(f -> {
+ *             DataArray da = f.getBlock(0).getDataArray("voltage");
+ *             double[] buffer = new double[1000];
+ *             da.getData(buffer, new NDSize(new int[]{ 1000 }), new NDSize(new int[]{ offset }));
+ *             return buffer;
+ *         });
+ *         ...
+ *     }
+ * </code></pre>
+ *
+ * @see File#openShared(String)
+ */
+public class SharedFile implements AutoCloseable {
+
+    private final String path;
+    private final ThreadLocal<File> handle = new ThreadLocal<>();
+    private final List<File> handles = new ArrayList<>();
+    private boolean closed;
+
+    SharedFile(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Get the location of the file.
+     *
+     * @return The path of the file.
+     */
+    public String getLocation() {
+        return path;
+    }
+
+    /**
+     * Get the handle of the calling thread, opening it if necessary.
+     * <p>
+     * Calls on the handle and its entities must hold the {@link BackendLock} if other
+     * threads use the back-end at the same time, {@link SharedFile#read(Function)} does that.
+     *
+     * @return The read-only file handle of the calling thread.
+     * @throws IllegalStateException if the shared file is closed.
+     */
+    public File getFile() {
+        File file = handle.get();
+        if (file == null) {
+            file = BackendLock.call(this::openHandle);
+            handle.set(file);
+        } else {
+            checkOpen();
+        }
+        return file;
+    }
+
+    /**
+     * Read from the file with the handle of the calling thread while holding the back-end lock.
+     *
+     * @param reader The function reading from the file.
+     * @param <T>    The type of the result.
+     * @return The result of the reader.
+     * @throws IllegalStateException if the shared file is closed.
+     */
+    public <T> T read(Function<File, T> reader) {
+        File file = getFile();
+        // checked again under the back-end lock, which close() holds as well
+        return BackendLock.call(() -> {
+            checkOpen();
+            return reader.apply(file);
+        });
+    }
+
+    /**
+     * Close all handles opened for this file.
+     * <p>
+     * Handles and entities obtained before must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        BackendLock.run(() -> {
+            synchronized (handles) {
+                for (File file : handles) {
+                    if (file.isOpen()) {
+                        file.close();
+                    }
+                }
+                handles.clear();
+                closed = true;
+            }
+        });
+    }
+
+    // handles of other threads stay in their thread locals, hence the flag is checked on every access
+    private void checkOpen() {
+        synchronized (handles) {
+            if (closed) {
+                handle.remove();
+                throw new IllegalStateException("shared file is closed");
+            }
+        }
+    }
+
+    private File openHandle() {
+        synchronized (handles) {
+            if (closed) {
+                throw new IllegalStateException("shared file is closed");
+            }
+            File file = File.open(path, FileMode.ReadOnly);
+            handles.add(file);
+            return file;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.g_node.nix.internal.*;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * <h1>Source</h1>
@@ -54,15 +55,19 @@ public class Source extends EntityWithMetadata {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the source.
      *
      * @return ID string.
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -74,7 +79,7 @@ public class Source extends EntityWithMetadata {
      * @return The creation date of the source.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -100,10 +105,16 @@ public class Source extends EntityWithMetadata {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -114,6 +125,7 @@ public class Source extends EntityWithMetadata {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     /**
@@ -135,15 +147,19 @@ public class Source extends EntityWithMetadata {
     @StdString
     String getType();
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the source.
      *
      * @return The name of the source.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -196,7 +212,7 @@ public class Source extends EntityWithMetadata {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     /**
@@ -279,7 +295,7 @@ public class Source extends EntityWithMetadata {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     private native
@@ -298,7 +314,7 @@ public class Source extends EntityWithMetadata {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     /**
@@ -320,7 +336,7 @@ public class Source extends EntityWithMetadata {
      * @return list of source.
      */
     public List<Source> getSources() {
-        return sources().getSources();
+        return track(sources().getSources());
     }
 
     /**
@@ -342,6 +358,18 @@ public class Source extends EntityWithMetadata {
         return result;
     }
 
+    /**
+     * Stream the child sources of this source.
+     * <p>
+     * The child sources are fetched by index while the stream is consumed.
+     *
+     * @return A sequential stream of the child sources.
+     * @see Source
+     */
+    public Stream<Source> getSourceStream() {
+        return ListBuilder.stream(this::getSourceCount, this::getSource);
+    }
+
     private static class SourceCont {
         private final Source entity;
         private final int depth;
@@ -453,7 +481,7 @@ public class Source extends EntityWithMetadata {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     /**
@@ -77,15 +77,19 @@ public class Tag extends EntityWithSources {
     @Cast("bool")
     boolean isNone();
 
+    private native
+    @Name("id")
+    @StdString
+    String id();
+
     /**
      * Get id of the tag.
      *
      * @return ID string.
      */
-    public native
-    @Name("id")
-    @StdString
-    String getId();
+    public String getId() {
+        return cachedId(this::id);
+    }
 
     private native
     @Cast("time_t")
@@ -97,7 +101,7 @@ public class Tag extends EntityWithSources {
      * @return The creation date of the tag.
      */
     public Date getCreatedAt() {
-        return DateUtils.convertSecondsToDate(createdAt());
+        return cachedCreatedAt(this::createdAt);
     }
 
     private native
@@ -123,10 +127,16 @@ public class Tag extends EntityWithSources {
      */
     public native void forceUpdatedAt();
 
+    @Name("setCreatedAt")
+    private native void initCreatedAt();
+
     /**
      * Sets the creation time to the current time if the field is not set.
      */
-    public native void setCreatedAt();
+    public void setCreatedAt() {
+        initCreatedAt();
+        resetCreatedAt();
+    }
 
     private native void forceCreatedAt(@Cast("time_t") long time);
 
@@ -137,6 +147,7 @@ public class Tag extends EntityWithSources {
      */
     public void forceCreatedAt(Date date) {
         forceCreatedAt(DateUtils.convertDateToSeconds(date));
+        resetCreatedAt();
     }
 
     /**
@@ -158,15 +169,19 @@ public class Tag extends EntityWithSources {
     @StdString
     String getType();
 
+    private native
+    @Name("name")
+    @StdString
+    String name();
+
     /**
      * Getter for the name of the tag.
      *
      * @return The name of the tag.
      */
-    public native
-    @Name("name")
-    @StdString
-    String getName();
+    public String getName() {
+        return cachedName(this::name);
+    }
 
     private native void definition(@Const @ByVal None t);
 
@@ -219,7 +234,7 @@ public class Tag extends EntityWithSources {
         if (section.isNone()) {
             section = null;
         }
-        return section;
+        return track(section);
     }
 
     /**
@@ -307,7 +322,7 @@ public class Tag extends EntityWithSources {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     private native
@@ -328,7 +343,7 @@ public class Tag extends EntityWithSources {
         if (source.isNone()) {
             source = null;
         }
-        return source;
+        return track(source);
     }
 
     private native
@@ -342,7 +357,7 @@ public class Tag extends EntityWithSources {
      * @see Source
      */
     public List<Source> getSources() {
-        return sources().getSources();
+        return track(sources().getSources());
     }
 
     private native void sources(@Const @ByRef VectorUtils.SourceVector sources);
@@ -557,7 +572,7 @@ public class Tag extends EntityWithSources {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     private native
@@ -577,7 +592,7 @@ public class Tag extends EntityWithSources {
         if (da.isNone()) {
             da = null;
         }
-        return da;
+        return track(da);
     }
 
     /**
@@ -637,7 +652,7 @@ public class Tag extends EntityWithSources {
      * @see DataArray
      */
     public List<DataArray> getReferences() {
-        return references().getDataArrays();
+        return track(references().getDataArrays());
     }
 
     /**
@@ -729,7 +744,7 @@ public class Tag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     private native
@@ -749,7 +764,7 @@ public class Tag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     private native
@@ -763,7 +778,7 @@ public class Tag extends EntityWithSources {
      * @see Feature
      */
     public List<Feature> getFeatures() {
-        return features().getFeatures();
+        return track(features().getFeatures());
     }
 
     /**
@@ -804,7 +819,7 @@ public class Tag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     private native
@@ -825,7 +840,7 @@ public class Tag extends EntityWithSources {
         if (feature.isNone()) {
             feature = null;
         }
-        return feature;
+        return track(feature);
     }
 
     /**
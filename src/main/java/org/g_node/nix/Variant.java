@@ -2,6 +2,7 @@ package org.g_node.nix;
 
 import org.bytedeco.javacpp.*;
 import org.bytedeco.javacpp.annotation.*;
+import org.g_node.nix.base.NativeScope;
 import org.g_node.nix.internal.BuildLibs;
 
 /**
@@ -33,6 +34,7 @@ public class Variant extends Pointer {
      */
     public Variant() {
         allocate();
+        NativeScope.attach(this);
     }
 
     private native void allocate();
@@ -45,6 +47,7 @@ public class Variant extends Pointer {
     public Variant(boolean value) {
         allocate();
         set(value);
+        NativeScope.attach(this);
     }
 
     /**
@@ -55,6 +58,7 @@ public class Variant extends Pointer {
     public Variant(int value) {
         allocate();
         set(value);
+        NativeScope.attach(this);
     }
 
     /**
@@ -65,6 +69,7 @@ public class Variant extends Pointer {
     public Variant(long value) {
         allocate();
         set(value);
+        NativeScope.attach(this);
     }
 
     /**
@@ -75,6 +80,7 @@ public class Variant extends Pointer {
     public Variant(double value) {
         allocate();
         set(value);
+        NativeScope.attach(this);
     }
 
     /**
@@ -85,6 +91,7 @@ public class Variant extends Pointer {
     public Variant(String value) {
         allocate();
         set(value);
+        NativeScope.attach(this);
     }
 
     //--------------------------------------------------
@@ -124,6 +131,34 @@ public class Variant extends Pointer {
         set(value);
     }
 
+    @Name("set")
+    private native void setUInt32(@Cast("uint32_t") int value);
+
+    /**
+     * Set unsigned 32 bit integer data.
+     *
+     * @param value unsigned integer value to set, between 0 and 2<sup>32</sup> - 1
+     */
+    public void setUInt(long value) {
+        if (value < 0 || value > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("value out of the range of an unsigned 32 bit integer");
+        }
+        setUInt32((int) value);
+    }
+
+    @Name("set")
+    private native void setUInt64(@Cast("uint64_t") long value);
+
+    /**
+     * Set unsigned 64 bit integer data.
+     *
+     * @param value unsigned long integer value to set, values above <tt>Long.MAX_VALUE</tt>
+     *              are passed as their two's complement, see {@link Long#parseUnsignedLong(String)}
+     */
+    public void setULong(long value) {
+        setUInt64(value);
+    }
+
     private native void set(double value);
 
     /**
@@ -146,6 +181,14 @@ public class Variant extends Pointer {
         set(value);
     }
 
+    /**
+     * Release the native object. The object must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        deallocate();
+    }
+
     //--------------------------------------------------
     // Getters
     //--------------------------------------------------
@@ -189,6 +232,35 @@ public class Variant extends Pointer {
         return p.get();
     }
 
+    @Name("get")
+    private native void getUInt32(@Cast("uint32_t*") @ByRef IntPointer value);
+
+    /**
+     * Getter for unsigned 32 bit integer value.
+     *
+     * @return unsigned 32 bit integer data as long.
+     */
+    public long getUInt() {
+        IntPointer p = new IntPointer(1);
+        getUInt32(p);
+        return Integer.toUnsignedLong(p.get());
+    }
+
+    @Name("get")
+    private native void getUInt64(@Cast("uint64_t*") @ByRef LongPointer value);
+
+    /**
+     * Getter for unsigned 64 bit integer value.
+     *
+     * @return unsigned 64 bit integer data as long, values above <tt>Long.MAX_VALUE</tt> are
+     * returned as their two's complement, see {@link Long#toUnsignedString(long)}.
+     */
+    public long getULong() {
+        LongPointer p = new LongPointer(1);
+        getUInt64(p);
+        return p.get();
+    }
+
     private native void get(@ByRef double[] value);
 
     /**
@@ -2,8 +2,12 @@ package org.g_node.nix.base;
 
 import org.bytedeco.javacpp.annotation.Platform;
 import org.bytedeco.javacpp.annotation.Properties;
+import org.g_node.nix.internal.DateUtils;
 
 import java.util.Date;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * <h1>Entity</h1>
@@ -15,6 +19,61 @@ import java.util.Date;
         @Platform(value = "windows")})
 public abstract class Entity extends ImplContainer {
 
+    // set by EntityCache#intern, entities returned by @ByVal natives start with null
+    EntityCache entityCache;
+
+    // attributes read once, no initializers since instances returned by value bypass the constructor
+    private String cachedId;
+    private String cachedName;
+    private Long cachedCreatedAt;
+
+    /**
+     * Get the id of the entity, which is read from the back-end on the first call only.
+     *
+     * @param reader Reads the id from the back-end.
+     * @return The id of the entity.
+     */
+    protected final String cachedId(Supplier<String> reader) {
+        if (cachedId == null) {
+            cachedId = reader.get();
+        }
+        return cachedId;
+    }
+
+    /**
+     * Get the name of the entity, which is read from the back-end on the first call only.
+     *
+     * @param reader Reads the name from the back-end.
+     * @return The name of the entity.
+     */
+    protected final String cachedName(Supplier<String> reader) {
+        if (cachedName == null) {
+            cachedName = reader.get();
+        }
+        return cachedName;
+    }
+
+    /**
+     * Get the creation time of the entity, which is read from the back-end until it is
+     * cached and again after {@link #resetCreatedAt()}.
+     *
+     * @param reader Reads the creation time in seconds from the back-end.
+     * @return The creation time of the entity.
+     */
+    protected final Date cachedCreatedAt(LongSupplier reader) {
+        if (cachedCreatedAt == null) {
+            cachedCreatedAt = reader.getAsLong();
+        }
+        return DateUtils.convertSecondsToDate(cachedCreatedAt);
+    }
+
+    /**
+     * Drop the cached creation time after it was changed.
+     */
+    protected final void resetCreatedAt() {
+        cachedCreatedAt = null;
+    }
+
     /**
      * Getter for the id of the entity.
      * <p>
@@ -65,6 +124,49 @@ public abstract class Entity extends ImplContainer {
      */
     abstract public void forceCreatedAt(Date date);
 
+    /**
+     * Hand out an entity retrieved or created through this entity.
+     * <p>
+     * If this entity belongs to an {@link EntityCache}, the cached object is returned. Otherwise
+     * the entity is added to the current {@link NativeScope}, if any.
+     *
+     * @param entity The retrieved entity, may be <tt>null</tt>.
+     * @param <T>    The type of the entity.
+     * @return The cached object or the entity itself.
+     */
+    protected <T extends Entity> T track(T entity) {
+        return entityCache != null ? entityCache.intern(entity) : NativeScope.attach(entity);
+    }
+
+    /**
+     * Hand out entities retrieved through this entity.
+     *
+     * @param entities The retrieved entities.
+     * @param <T>      The type of the entities.
+     * @return The list with the cached objects or the entities themselves.
+     * @see #track(Entity)
+     */
+    protected <T extends Entity> List<T> track(List<T> entities) {
+        if (entityCache != null) {
+            return entityCache.intern(entities);
+        }
+        entities.forEach(NativeScope::attach);
+        return entities;
+    }
+
+    /**
+     * Release the native object. The entity must not be used afterwards.
+     * A cached entity is removed from its {@link EntityCache}.
+     */
+    @Override
+    public void close() {
+        if (entityCache != null) {
+            entityCache.evict(getId());
+            entityCache = null;
+        }
+        deallocate();
+    }
+
     @Override
     public int hashCode() {
         return this.getId().hashCode();
@@ -0,0 +1,153 @@
+package org.g_node.nix.base;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>EntityCache</h1>
+ * Identity cache that maps entity ids to one Java object per entity.
+ * <p>
+ * Once a cache is set on a file, see {@link org.g_node.nix.File#setEntityCache(EntityCache)},
+ * entities retrieved from the file or from entities of the file are looked up by their id.
+ * If the entity was retrieved before the same object is returned and the native peer that was
+ * just created for it is released immediately. The cache holds at most a given number of
+ * entities, the least recently used are dropped first. Entities are referenced softly or
+ * weakly, thus they are also dropped if they are not used anymore and memory is needed.
+ * <pre><code>
+ *     File f = File.open("recording.h5", FileMode.ReadOnly);
+ *     f.setEntityCache(new EntityCache(10000));
+ *     Block b = f.getBlock("session");
+ *     assert b == f.getBlock(b.getId());
+ * </code></pre>
+ * The cache must not be shared between files that are open at the same time.
+ */
+public final class EntityCache {
+
+    private final Map<String, Reference<Entity>> entries;
+    private final boolean soft;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache that references entities softly.
+     *
+     * @param maxSize The maximum number of entities.
+     */
+    public EntityCache(int maxSize) {
+        this(maxSize, true);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize The maximum number of entities.
+     * @param soft    Whether entities are referenced softly, otherwise weakly.
+     */
+    public EntityCache(int maxSize, boolean soft) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.soft = soft;
+        this.entries = new LinkedHashMap<String, Reference<Entity>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Reference<Entity>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the cached object for an entity.
+     * <p>
+     * If another object for the same entity is cached, the given entity is deallocated and
+     * must not be used anymore. Otherwise the given entity is added to the cache.
+     *
+     * @param entity The entity, may be <tt>null</tt>.
+     * @param <T>    The type of the entity.
+     * @return The cached object for the entity.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends Entity> T intern(T entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        String id = entity.getId();
+        Reference<Entity> ref = entries.get(id);
+        Entity cached = ref != null ? ref.get() : null;
+
+        if (cached != null && cached.getClass() == entity.getClass()) {
+            hits++;
+            if (cached != entity) {
+                entity.deallocate();
+            }
+            return (T) cached;
+        }
+
+        misses++;
+        entity.entityCache = this;
+        entries.put(id, soft ? new SoftReference<>(entity) : new WeakReference<>(entity));
+        return entity;
+    }
+
+    /**
+     * Replace all entities of a list by their cached objects.
+     *
+     * @param entities The entities.
+     * @param <T>      The type of the entities.
+     * @return The same list.
+     */
+    public <T extends Entity> List<T> intern(List<T> entities) {
+        entities.replaceAll(this::intern);
+        return entities;
+    }
+
+    /**
+     * Remove an entity from the cache.
+     *
+     * @param id The id of the entity.
+     */
+    public synchronized void evict(String id) {
+        entries.remove(id);
+    }
+
+    /**
+     * Remove all entities from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the number of cached entities, including entities that were already
+     * dropped by the garbage collector.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of lookups that returned a cached object.
+     *
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of lookups that added an entity to the cache.
+     *
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,141 @@
+package org.g_node.nix.base;
+
+import org.bytedeco.javacpp.Pointer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * <h1>NativeScope</h1>
+ * Releases the native memory of all objects allocated by the bindings while the scope is open.
+ * <p>
+ * Native objects are normally released when the garbage collector finds their Java objects
+ * unreachable, which may happen much later than the native memory runs short. Within a scope,
+ * entities retrieved or created through the bindings as well as {@link org.g_node.nix.NDSize},
+ * {@link org.g_node.nix.Variant} and {@link org.g_node.nix.DataView} objects constructed in Java
+ * on the same thread are released when the scope is closed.
+ * <pre><code>
+ *     for (long i = 0; i &lt; block.getDataArrayCount(); i++) {
+ *         try (NativeScope scope = new NativeScope()) {
+ *             DataArray da = block.getDataArray(i);
+ *             Section metadata = da.getMetadata();
+ *             ...
+ *         }
+ *     }
+ * </code></pre>
+ * Objects that are used after the scope was closed must be detached with {@link #detach(Pointer)}.
+ * Scopes can be nested, objects belong to the innermost open scope. Entities held by an
+ * {@link EntityCache} are owned by the cache and are not released by a scope.
+ */
+public final class NativeScope implements AutoCloseable {
+
+    private static final ThreadLocal<NativeScope> current = new ThreadLocal<>();
+
+    private final NativeScope outer;
+    private final Thread owner;
+    private final Set<Pointer> pointers = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ArrayList<Pointer> order = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * Opens a scope on the current thread.
+     */
+    public NativeScope() {
+        this.outer = current.get();
+        this.owner = Thread.currentThread();
+        current.set(this);
+    }
+
+    /**
+     * Get the innermost open scope of the current thread.
+     *
+     * @return The scope or <tt>null</tt> if no scope is open.
+     */
+    public static NativeScope getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * Add an object to the innermost open scope of the current thread, if any.
+     *
+     * @param pointer The object, may be <tt>null</tt>.
+     * @param <T>     The type of the object.
+     * @return The object.
+     */
+    public static <T extends Pointer> T attach(T pointer) {
+        NativeScope scope = current.get();
+        return scope != null ? scope.add(pointer) : pointer;
+    }
+
+    /**
+     * Remove an object from all open scopes of the current thread, so that it is
+     * released by the garbage collector or by an explicit <tt>close()</tt> only.
+     *
+     * @param pointer The object.
+     * @param <T>     The type of the object.
+     * @return The object.
+     */
+    public static <T extends Pointer> T detach(T pointer) {
+        for (NativeScope scope = current.get(); scope != null; scope = scope.outer) {
+            scope.pointers.remove(pointer);
+        }
+        return pointer;
+    }
+
+    /**
+     * Add an object to this scope.
+     *
+     * @param pointer The object, may be <tt>null</tt>.
+     * @param <T>     The type of the object.
+     * @return The object.
+     */
+    public <T extends Pointer> T add(T pointer) {
+        if (closed) {
+            throw new IllegalStateException("Scope is closed");
+        }
+        if (pointer != null && pointers.add(pointer)) {
+            order.add(pointer);
+        }
+        return pointer;
+    }
+
+    /**
+     * Get the number of objects held by the scope.
+     *
+     * @return The number of objects.
+     */
+    public int size() {
+        return pointers.size();
+    }
+
+    /**
+     * Release all objects of the scope in reverse order of their allocation and
+     * make the enclosing scope the current one.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (Thread.currentThread() != owner || current.get() != this) {
+            throw new IllegalStateException("Scopes must be closed by their thread in reverse order of opening");
+        }
+        closed = true;
+        if (outer != null) {
+            current.set(outer);
+        } else {
+            current.remove();
+        }
+
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Pointer pointer = order.get(i);
+            if (pointers.contains(pointer)) {
+                pointer.deallocate();
+            }
+        }
+        order.clear();
+        pointers.clear();
+    }
+}
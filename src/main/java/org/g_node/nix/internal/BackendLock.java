@@ -0,0 +1,61 @@
+package org.g_node.nix.internal;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * <h1>BackendLock</h1>
+ * The process wide lock that serializes calls into the NIX back-end.
+ * <p>
+ * The HDF5 library keeps global state and is not safe to be entered from several
+ * threads at once, independent of the file the calls are made on. Every piece of
+ * the bindings that calls into the back-end from a thread other than the caller's
+ * holds this lock while doing so; code that accesses files from several threads
+ * must do the same.
+ */
+public final class BackendLock {
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private BackendLock() {
+    }
+
+    /**
+     * Get the lock itself, e.g. for use with <tt>tryLock</tt>.
+     *
+     * @return The back-end lock.
+     */
+    public static ReentrantLock get() {
+        return LOCK;
+    }
+
+    /**
+     * Run an action while holding the back-end lock.
+     *
+     * @param action The action to run.
+     */
+    public static void run(Runnable action) {
+        LOCK.lock();
+        try {
+            action.run();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Compute a value while holding the back-end lock.
+     *
+     * @param supplier The function computing the value.
+     * @param <T>      The type of the value.
+     * @return The computed value.
+     */
+    public static <T> T call(Supplier<T> supplier) {
+        LOCK.lock();
+        try {
+            return supplier.get();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+}
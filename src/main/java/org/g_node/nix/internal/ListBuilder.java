@@ -2,6 +2,8 @@ package org.g_node.nix.internal;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Creates a list from a counter and a getter.
@@ -10,7 +12,10 @@ public final class ListBuilder {
 
     public static <T> List<T> build(Counter counter, Getter<T> getter) {
         long c = counter.count();
-        List<T> result = new LinkedList<>();
+        if (c > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many elements for a list");
+        }
+        List<T> result = new ArrayList<>((int) c);
         for (long i = 0; i < c; i++) {
             result.add(getter.get(i));
         }
@@ -19,7 +24,7 @@ public final class ListBuilder {
 
     public static <T> List<T> build(Counter counter, Getter<T> getter, Predicate<T> filter) {
         long c = counter.count();
-        List<T> result = new LinkedList<>();
+        List<T> result = new ArrayList<>();
         for (long i = 0; i < c; i++) {
             T elem = getter.get(i);
             if (filter.test(elem))
@@ -28,6 +33,17 @@ public final class ListBuilder {
         return result;
     }
 
+    /**
+     * Creates a lazy stream from a counter and a getter.
+     * <p>
+     * The count is taken when the stream is created, elements are fetched one by one
+     * when the stream is consumed. Short-circuiting operations only fetch the elements
+     * they need. The stream is sequential, the back-end is not thread-safe.
+     */
+    public static <T> Stream<T> stream(Counter counter, Getter<T> getter) {
+        return LongStream.range(0, counter.count()).mapToObj(getter::get);
+    }
+
     @FunctionalInterface
     public interface Counter {
         long count();
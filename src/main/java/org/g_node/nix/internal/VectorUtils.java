@@ -8,12 +8,18 @@ import org.bytedeco.javacpp.annotation.*;
 import org.g_node.nix.*;
 import org.g_node.nix.valid.Message;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * <h1>VectorUtils</h1>
  * Low level wrapper to std vectors.
+ * <p>
+ * The list getters copy the elements and release the native vector, the vectors
+ * returned by the bindings are meant to be read exactly once.
  */
 
 @Properties(value = {
@@ -74,22 +80,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Block get(@Cast("size_t") long i);
 
         private native BlockVector put(@Cast("size_t") long i, Block block);
 
         /**
          * Get blocks.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of blocks.
          * @see Block
          */
         public List<Block> getBlocks() {
-            ArrayList<Block> blocks = new ArrayList<Block>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Block> blocks = new ArrayList<Block>((int) size);
+            for (int i = 0; i < size; i++) {
                 blocks.add(get(i));
             }
+            deallocate();
             return blocks;
         }
     }
@@ -127,22 +138,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native DataArray get(@Cast("size_t") long i);
 
         private native DataArrayVector put(@Cast("size_t") long i, DataArray dataArray);
 
         /**
          * Get data arrays.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of data arrays.
          * @see DataArray
          */
         public List<DataArray> getDataArrays() {
-            ArrayList<DataArray> dataArrays = new ArrayList<DataArray>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<DataArray> dataArrays = new ArrayList<DataArray>((int) size);
+            for (int i = 0; i < size; i++) {
                 dataArrays.add(get(i));
             }
+            deallocate();
             return dataArrays;
         }
     }
@@ -180,22 +196,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Dimension get(@Cast("size_t") long i);
 
         private native DimensionVector put(@Cast("size_t") long i, Dimension dimension);
 
         /**
          * Get dimensions.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of dimensions.
          * @see Dimension
          */
         public List<Dimension> getDimensions() {
-            ArrayList<Dimension> dimensions = new ArrayList<Dimension>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Dimension> dimensions = new ArrayList<Dimension>((int) size);
+            for (int i = 0; i < size; i++) {
                 dimensions.add(get(i));
             }
+            deallocate();
             return dimensions;
         }
     }
@@ -233,22 +254,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Feature get(@Cast("size_t") long i);
 
         private native FeatureVector put(@Cast("size_t") long i, Feature feature);
 
         /**
          * Get features.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of features.
          * @see Feature
          */
         public List<Feature> getFeatures() {
-            ArrayList<Feature> features = new ArrayList<Feature>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Feature> features = new ArrayList<Feature>((int) size);
+            for (int i = 0; i < size; i++) {
                 features.add(get(i));
             }
+            deallocate();
             return features;
         }
     }
@@ -286,22 +312,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native MultiTag get(@Cast("size_t") long i);
 
         private native MultiTagVector put(@Cast("size_t") long i, MultiTag multiTag);
 
         /**
          * Get multi tags.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of multi tags.
          * @see MultiTag
          */
         public List<MultiTag> getMultiTags() {
-            ArrayList<MultiTag> multiTags = new ArrayList<MultiTag>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<MultiTag> multiTags = new ArrayList<MultiTag>((int) size);
+            for (int i = 0; i < size; i++) {
                 multiTags.add(get(i));
             }
+            deallocate();
             return multiTags;
         }
     }
@@ -339,22 +370,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Property get(@Cast("size_t") long i);
 
         private native PropertyVector put(@Cast("size_t") long i, Property property);
 
         /**
          * Get properties.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of properties.
          * @see Property
          */
         public List<Property> getProperties() {
-            ArrayList<Property> properties = new ArrayList<Property>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Property> properties = new ArrayList<Property>((int) size);
+            for (int i = 0; i < size; i++) {
                 properties.add(get(i));
             }
+            deallocate();
             return properties;
         }
     }
@@ -392,22 +428,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Section get(@Cast("size_t") long i);
 
         private native SectionVector put(@Cast("size_t") long i, Section section);
 
         /**
          * Get sections.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of sections.
          * @see Section
          */
         public List<Section> getSections() {
-            ArrayList<Section> sections = new ArrayList<Section>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Section> sections = new ArrayList<Section>((int) size);
+            for (int i = 0; i < size; i++) {
                 sections.add(get(i));
             }
+            deallocate();
             return sections;
         }
     }
@@ -445,22 +486,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Source get(@Cast("size_t") long i);
 
         private native SourceVector put(@Cast("size_t") long i, Source source);
 
         /**
          * Get source.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of sources.
          * @see Source
          */
         public List<Source> getSources() {
-            ArrayList<Source> sources = new ArrayList<Source>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Source> sources = new ArrayList<Source>((int) size);
+            for (int i = 0; i < size; i++) {
                 sources.add(get(i));
             }
+            deallocate();
             return sources;
         }
     }
@@ -498,22 +544,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Tag get(@Cast("size_t") long i);
 
         private native TagVector put(@Cast("size_t") long i, Tag tag);
 
         /**
          * Get tags.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of tags.
          * @see Tag
          */
         public List<Tag> getTags() {
-            ArrayList<Tag> tags = new ArrayList<Tag>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Tag> tags = new ArrayList<Tag>((int) size);
+            for (int i = 0; i < size; i++) {
                 tags.add(get(i));
             }
+            deallocate();
             return tags;
         }
     }
@@ -551,22 +602,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Variant get(@Cast("size_t") long i);
 
         private native VariantVector put(@Cast("size_t") long i, Variant value);
 
         /**
          * Get values.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of values.
          * @see Variant
          */
         public List<Variant> getValues() {
-            ArrayList<Variant> values = new ArrayList<Variant>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Variant> values = new ArrayList<Variant>((int) size);
+            for (int i = 0; i < size; i++) {
                 values.add(get(i));
             }
+            deallocate();
             return values;
         }
     }
@@ -604,22 +660,27 @@ public class VectorUtils {
         private native long size();
 
         @Index
-        @ByRef
+        @ByVal
         private native Message get(@Cast("size_t") long i);
 
         private native MessageVector put(@Cast("size_t") long i, Message message);
 
         /**
          * Get messages.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of messages.
          * @see Message
          */
         public List<Message> getMessages() {
-            ArrayList<Message> messages = new ArrayList<Message>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<Message> messages = new ArrayList<Message>((int) size);
+            for (int i = 0; i < size; i++) {
                 messages.add(get(i));
             }
+            deallocate();
             return messages;
         }
     }
@@ -664,15 +725,20 @@ public class VectorUtils {
 
         /**
          * Get Strings.
+         * <p>
+         * The elements are copied and the native vector is released, the vector must not
+         * be used afterwards.
          *
          * @return list of strings.
          * @see String
          */
         public List<String> getStrings() {
-            ArrayList<String> strings = new ArrayList<String>();
-            for (int i = 0; i < size(); i++) {
+            long size = size();
+            ArrayList<String> strings = new ArrayList<String>((int) size);
+            for (int i = 0; i < size; i++) {
                 strings.add(get(i));
             }
+            deallocate();
             return strings;
         }
     }
@@ -682,26 +748,21 @@ public class VectorUtils {
     //--------------------------------------------------
 
     /**
-     * Converts {@link IntPointer} to integer array
+     * Converts {@link IntPointer} to integer array.
+     * <p>
+     * The elements are copied at once and the pointer is released afterwards.
      *
      * @param ip {@link IntPointer} pointer to be converted
      * @return array of ints
      */
     public static int[] convertPointerToArray(IntPointer ip) {
-        int[] arr = null;
-
-	if (ip == null)
-	    return null;
-
-	if (ip.capacity() > Integer.MAX_VALUE)
-	    throw new IllegalArgumentException("capacity of pointer too big");
-
-	int c = (int) ip.capacity();
-	arr = new int[c];
-	for (int i = 0; i < c; i++) {
-	    arr[i] = ip.get(i);
-	}
+        if (ip == null) {
+            return null;
+        }
 
+        int[] arr = new int[ip.capacity()];
+        ip.get(arr);
+        ip.deallocate();
         return arr;
     }
 
@@ -711,23 +772,45 @@ public class VectorUtils {
 
     /**
      * Converts {@link DoublePointer} to double array.
+     * <p>
+     * The elements are copied at once and the pointer is released afterwards.
      *
      * @param dp {@link DoublePointer} pointer to be converted
      * @return array of doubles
      */
     public static double[] convertPointerToArray(DoublePointer dp) {
-        double[] arr = null;
-
-	if (dp == null)
-	    return null;
+        if (dp == null) {
+            return null;
+        }
 
-	int c = (int) dp.capacity();
+        double[] arr = new double[dp.capacity()];
+        dp.get(arr);
+        dp.deallocate();
+        return arr;
+    }
 
-	arr = new double[c];
-	for (int i = 0; i < c; i++) {
-	    arr[i] = dp.get(i);
-	}
+    /**
+     * Converts {@link DoublePointer} to a direct buffer in native byte order.
+     * <p>
+     * The elements are copied with a single memcpy and the pointer is released afterwards.
+     *
+     * @param dp {@link DoublePointer} pointer to be converted
+     * @return buffer of doubles
+     */
+    public static DoubleBuffer convertPointerToBuffer(DoublePointer dp) {
+        if (dp == null) {
+            return null;
+        }
 
-	return arr;
+        int c = dp.capacity();
+        if (c > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException("capacity of pointer too big");
+        }
+        DoubleBuffer buf = ByteBuffer.allocateDirect(c * 8)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+        Pointer.memcpy(new DoublePointer(buf), dp, (long) c * 8);
+        dp.deallocate();
+        return buf;
     }
 }
@@ -1,9 +1,14 @@
 package org.g_node.nix.util;
 
+import org.bytedeco.javacpp.DoublePointer;
 import org.bytedeco.javacpp.Loader;
 import org.bytedeco.javacpp.annotation.*;
 import org.g_node.nix.*;
 import org.g_node.nix.internal.BuildLibs;
+import org.g_node.nix.internal.VectorUtils;
+
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 
 /**
  * <h1>DataAccess</h1>
@@ -21,7 +26,8 @@ import org.g_node.nix.internal.BuildLibs;
                 "<nix/Property.hpp>",
                 "<nix/Section.hpp>",
                 "<nix/Source.hpp>",
-                "<nix/Tag.hpp>"}),
+                "<nix/Tag.hpp>",
+                "taggeddatahelper.hpp"}),
         @Platform(value = "linux", link = BuildLibs.NIX_1, preload = BuildLibs.HDF5_7),
         @Platform(value = "macosx", link = BuildLibs.NIX, preload = BuildLibs.HDF5),
         @Platform(value = "windows",
@@ -78,6 +84,92 @@ public class DataAccess {
      */
     public static native long positionToIndex(double position, @StdString String unit, @Const @ByRef RangeDimension dimension);
 
+    /**
+     * Converts a number of positions given in a unit into indices according to the dimension descriptor.
+     * <p>
+     * In contrast to {@link #positionToIndex(double, String, SampledDimension)} the indices are
+     * computed in Java from the offset and sampling interval of the dimension, which are read only once.
+     *
+     * @param positions The positions, need not be sorted.
+     * @param unit      The unit in which the positions are given, may be "none"
+     * @param dimension The dimension descriptor for the respective dimension.
+     * @return The calculated indices.
+     * @see SampledDimension#getAxisView()
+     */
+    public static long[] positionToIndex(double[] positions, String unit, SampledDimension<?> dimension) {
+        return positionToIndex(DoubleBuffer.wrap(positions), unit, dimension);
+    }
+
+    /**
+     * Converts the remaining positions of a buffer given in a unit into indices according to the
+     * dimension descriptor. The position of the buffer is not changed.
+     *
+     * @param positions The positions, need not be sorted.
+     * @param unit      The unit in which the positions are given, may be "none"
+     * @param dimension The dimension descriptor for the respective dimension.
+     * @return The calculated indices.
+     * @see #positionToIndex(double[], String, SampledDimension)
+     */
+    public static long[] positionToIndex(DoubleBuffer positions, String unit, SampledDimension<?> dimension) {
+        double scaling = getScaling(unit, dimension.getUnit(), "SampledDimension");
+        return positionToIndex(positions, scaling, dimension.getAxisView());
+    }
+
+    /**
+     * Converts a number of positions given in a unit into indices according to the dimension descriptor.
+     * <p>
+     * In contrast to {@link #positionToIndex(double, String, RangeDimension)} the ticks of the dimension
+     * are read only once and each position is looked up by a binary search in Java.
+     *
+     * @param positions The positions, need not be sorted.
+     * @param unit      The unit in which the positions are given, may be "none"
+     * @param dimension The dimension descriptor for the respective dimension.
+     * @return The calculated indices.
+     * @see RangeDimension#getAxisView()
+     */
+    public static long[] positionToIndex(double[] positions, String unit, RangeDimension<?> dimension) {
+        return positionToIndex(DoubleBuffer.wrap(positions), unit, dimension);
+    }
+
+    /**
+     * Converts the remaining positions of a buffer given in a unit into indices according to the
+     * dimension descriptor. The position of the buffer is not changed.
+     *
+     * @param positions The positions, need not be sorted.
+     * @param unit      The unit in which the positions are given, may be "none"
+     * @param dimension The dimension descriptor for the respective dimension.
+     * @return The calculated indices.
+     * @see #positionToIndex(double[], String, RangeDimension)
+     */
+    public static long[] positionToIndex(DoubleBuffer positions, String unit, RangeDimension<?> dimension) {
+        double scaling = getScaling(unit, dimension.getUnit(), "RangeDimension");
+        return positionToIndex(positions, scaling, dimension.getAxisView());
+    }
+
+    private static long[] positionToIndex(DoubleBuffer positions, double scaling, Axis axis) {
+        int start = positions.position();
+        long[] indices = new long[positions.remaining()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = axis.indexOf(positions.get(start + i) * scaling);
+        }
+        return indices;
+    }
+
+    // same rules as the native positionToIndex, the scaling is computed once for all positions
+    private static double getScaling(String unit, String dimensionUnit, String dimensionType) {
+        if (unit.equals("none")) {
+            return 1.0;
+        }
+        if (dimensionUnit == null) {
+            throw new IllegalArgumentException("Units of position and " + dimensionType + " must both be given!");
+        }
+        try {
+            return Util.getSIScaling(unit, dimensionUnit);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Provided units are not scalable!", e);
+        }
+    }
+
 
     /**
      * Returns the offsets and element counts associated with position and extent of a Tag and
@@ -122,6 +214,153 @@ public class DataAccess {
     @ByVal
     DataView taggedData(@Const @ByRef MultiTag tag, @Cast("size_t") long positionIndex, @Cast("size_t") long referenceIndex);
 
+    @Namespace("::nix_java")
+    @Name("tagged_data_offsets")
+    private static native
+    @Cast("nix::ndsize_t")
+    long taggedDataOffsets(@Const @ByRef MultiTag tag, @Cast("size_t") long referenceIndex,
+                           @Cast("const nix::ndsize_t*") long[] positionIndices, @Cast("size_t") long n,
+                           @Cast("nix::ndsize_t*") long[] offsets);
+
+    @Namespace("::nix_java")
+    @Name("tagged_data_read")
+    private static native
+    @Cast("nix::ndsize_t")
+    long taggedDataRead(@Const @ByRef MultiTag tag, @Cast("size_t") long referenceIndex,
+                        @Cast("const nix::ndsize_t*") long[] positionIndices, @Cast("size_t") long n,
+                        @Cast("nix::ndsize_t*") long[] offsets,
+                        @Cast("double*") double[] data, @Cast("size_t") long capacity);
+
+    @Namespace("::nix_java")
+    @Name("tagged_data_read")
+    private static native
+    @Cast("nix::ndsize_t")
+    long taggedDataRead(@Const @ByRef MultiTag tag, @Cast("size_t") long referenceIndex,
+                        @Cast("const nix::ndsize_t*") long[] positionIndices, @Cast("size_t") long n,
+                        @Cast("nix::ndsize_t*") long[] offsets,
+                        @Cast("double*") DoublePointer data, @Cast("size_t") long capacity);
+
+    @Namespace("::nix_java")
+    @Name("tagged_data")
+    private static native
+    @StdVector
+    DoublePointer taggedDataRead(@Const @ByRef MultiTag tag, @Cast("size_t") long referenceIndex,
+                                 @Cast("const nix::ndsize_t*") long[] positionIndices, @Cast("size_t") long n,
+                                 @Cast("nix::ndsize_t*") long[] offsets);
+
+    /**
+     * Computes where the data referenced by several positions of the MultiTag is placed
+     * in a single flat buffer.
+     * <p>
+     * The data of the position <tt>positionIndices[i]</tt> starts at <tt>offsets[i]</tt>
+     * and ends before <tt>offsets[i + 1]</tt>. All positions are checked to be within
+     * the extent of the referenced data.
+     *
+     * @param tag             The multi tag.
+     * @param referenceIndex  The index of the reference from which data should be returned.
+     * @param positionIndices The indices of the positions.
+     * @param offsets         The resulting offsets, must hold <tt>positionIndices.length + 1</tt> elements.
+     * @return The total number of elements referenced by all positions.
+     * @see MultiTag
+     */
+    public static long taggedDataOffsets(MultiTag tag, long referenceIndex, long[] positionIndices, long[] offsets) {
+        checkOffsets(positionIndices, offsets);
+        return taggedDataOffsets(tag, referenceIndex, positionIndices, positionIndices.length, offsets);
+    }
+
+    /**
+     * Retrieve the data referenced by several positions of the MultiTag with a single call.
+     * <p>
+     * The data of all positions is stored back to back in the array passed, the layout is
+     * stored in offsets as by {@link DataAccess#taggedDataOffsets(MultiTag, long, long[], long[])}.
+     * All positions are checked to be within the extent of the referenced data, nothing is read
+     * if the data does not fit into the array.
+     *
+     * @param tag             The multi tag.
+     * @param referenceIndex  The index of the reference from which data should be returned.
+     * @param positionIndices The indices of the positions.
+     * @param offsets         The resulting offsets, must hold <tt>positionIndices.length + 1</tt> elements.
+     * @param data            The array the data is stored in.
+     * @return The total number of elements read.
+     * @see MultiTag
+     */
+    public static long taggedData(MultiTag tag, long referenceIndex, long[] positionIndices, long[] offsets,
+                                  double[] data) {
+        checkOffsets(positionIndices, offsets);
+        return taggedDataRead(tag, referenceIndex, positionIndices, positionIndices.length, offsets,
+                              data, data.length);
+    }
+
+    /**
+     * Retrieve the data referenced by several positions of the MultiTag with a single call.
+     * <p>
+     * The data of all positions is stored back to back in the buffer passed, starting at
+     * its current position. The buffer must be direct and in native byte order.
+     *
+     * @param tag             The multi tag.
+     * @param referenceIndex  The index of the reference from which data should be returned.
+     * @param positionIndices The indices of the positions.
+     * @param offsets         The resulting offsets, must hold <tt>positionIndices.length + 1</tt> elements.
+     * @param data            The buffer the data is stored in.
+     * @return The total number of elements read.
+     * @see DataAccess#taggedData(MultiTag, long, long[], long[], double[])
+     */
+    public static long taggedData(MultiTag tag, long referenceIndex, long[] positionIndices, long[] offsets,
+                                  DoubleBuffer data) {
+        if (!data.isDirect()) {
+            throw new IllegalArgumentException("buffer must be direct");
+        }
+        if (data.order() != ByteOrder.nativeOrder()) {
+            throw new IllegalArgumentException("buffer must be in native byte order");
+        }
+        checkOffsets(positionIndices, offsets);
+        return taggedDataRead(tag, referenceIndex, positionIndices, positionIndices.length, offsets,
+                              new DoublePointer(data), data.remaining());
+    }
+
+    private static void checkOffsets(long[] positionIndices, long[] offsets) {
+        if (offsets.length < positionIndices.length + 1) {
+            throw new IllegalArgumentException("offsets must hold one element more than positionIndices");
+        }
+    }
+
+    /**
+     * Retrieve the data referenced by several positions of the MultiTag with a single call.
+     *
+     * @param tag             The multi tag.
+     * @param referenceIndex  The index of the reference from which data should be returned.
+     * @param positionIndices The indices of the positions.
+     * @param offsets         The resulting offsets, must hold <tt>positionIndices.length + 1</tt> elements.
+     * @return The data of all positions stored back to back.
+     * @see DataAccess#taggedData(MultiTag, long, long[], long[], double[])
+     */
+    public static double[] taggedData(MultiTag tag, long referenceIndex, long[] positionIndices, long[] offsets) {
+        checkOffsets(positionIndices, offsets);
+        double[] data = VectorUtils.convertPointerToArray(
+                taggedDataRead(tag, referenceIndex, positionIndices, positionIndices.length, offsets));
+        return data != null ? data : new double[0];
+    }
+
+    /**
+     * Retrieve the data referenced by a range of positions of the MultiTag.
+     *
+     * @param tag            The multi tag.
+     * @param referenceIndex The index of the reference from which data should be returned.
+     * @param firstPosition  The index of the first position.
+     * @param positionCount  The number of positions.
+     * @param offsets        The resulting offsets, must hold <tt>positionCount + 1</tt> elements.
+     * @return The data of all positions stored back to back.
+     * @see DataAccess#taggedData(MultiTag, long, long[], long[])
+     */
+    public static double[] taggedData(MultiTag tag, long referenceIndex, long firstPosition, int positionCount,
+                                      long[] offsets) {
+        long[] positionIndices = new long[positionCount];
+        for (int i = 0; i < positionCount; i++) {
+            positionIndices[i] = firstPosition + i;
+        }
+        return taggedData(tag, referenceIndex, positionIndices, offsets);
+    }
+
     /**
      * Retrieve the data referenced by the given position and extent of the Tag.
      *
@@ -10,6 +10,7 @@ import org.g_node.nix.internal.BuildLibs;
 import org.g_node.nix.internal.VectorUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -264,4 +265,138 @@ public class Util {
                                               double[] output,
                                               @Cast("size_t") long n);
 
+    /**
+     * Apply a calibration polynomial to raw data, like {@link #applyPolynomial(double[], double, double[], double[], long)}
+     * but evaluated in Java without copying the arrays through JNI.
+     * <p>
+     * The output is computed as <tt>c[0] + c[1] * x + c[2] * x^2 + ...</tt> with <tt>x = input - origin</tt>.
+     * Without coefficients only the origin is subtracted. Input and output may be the same array.
+     *
+     * @param coefficients The polynomial coefficients.
+     * @param origin       The expansion origin.
+     * @param input        The raw data.
+     * @param output       The calibrated data.
+     * @param n            The number of elements.
+     */
+    public static void calibrate(double[] coefficients, double origin, double[] input, double[] output, int n) {
+        if (output != input) {
+            System.arraycopy(input, 0, output, 0, n);
+        }
+        polynomial(coefficients, origin, output, n);
+    }
+
+    /**
+     * Apply a calibration polynomial to raw byte data.
+     *
+     * @param coefficients The polynomial coefficients.
+     * @param origin       The expansion origin.
+     * @param input        The raw data.
+     * @param output       The calibrated data.
+     * @param n            The number of elements.
+     * @see #calibrate(double[], double, double[], double[], int)
+     */
+    public static void calibrate(double[] coefficients, double origin, byte[] input, double[] output, int n) {
+        for (int i = 0; i < n; i++) {
+            output[i] = input[i];
+        }
+        polynomial(coefficients, origin, output, n);
+    }
+
+    /**
+     * Apply a calibration polynomial to raw short data.
+     *
+     * @param coefficients The polynomial coefficients.
+     * @param origin       The expansion origin.
+     * @param input        The raw data.
+     * @param output       The calibrated data.
+     * @param n            The number of elements.
+     * @see #calibrate(double[], double, double[], double[], int)
+     */
+    public static void calibrate(double[] coefficients, double origin, short[] input, double[] output, int n) {
+        for (int i = 0; i < n; i++) {
+            output[i] = input[i];
+        }
+        polynomial(coefficients, origin, output, n);
+    }
+
+    /**
+     * Apply a calibration polynomial to raw int data.
+     *
+     * @param coefficients The polynomial coefficients.
+     * @param origin       The expansion origin.
+     * @param input        The raw data.
+     * @param output       The calibrated data.
+     * @param n            The number of elements.
+     * @see #calibrate(double[], double, double[], double[], int)
+     */
+    public static void calibrate(double[] coefficients, double origin, int[] input, double[] output, int n) {
+        for (int i = 0; i < n; i++) {
+            output[i] = input[i];
+        }
+        polynomial(coefficients, origin, output, n);
+    }
+
+    /**
+     * Apply a calibration polynomial to raw long data.
+     *
+     * @param coefficients The polynomial coefficients.
+     * @param origin       The expansion origin.
+     * @param input        The raw data.
+     * @param output       The calibrated data.
+     * @param n            The number of elements.
+     * @see #calibrate(double[], double, double[], double[], int)
+     */
+    public static void calibrate(double[] coefficients, double origin, long[] input, double[] output, int n) {
+        for (int i = 0; i < n; i++) {
+            output[i] = input[i];
+        }
+        polynomial(coefficients, origin, output, n);
+    }
+
+    /**
+     * Apply a calibration polynomial to raw float data.
+     *
+     * @param coefficients The polynomial coefficients.
+     * @param origin       The expansion origin.
+     * @param input        The raw data.
+     * @param output       The calibrated data.
+     * @param n            The number of elements.
+     * @see #calibrate(double[], double, double[], double[], int)
+     */
+    public static void calibrate(double[] coefficients, double origin, float[] input, double[] output, int n) {
+        for (int i = 0; i < n; i++) {
+            output[i] = input[i];
+        }
+        polynomial(coefficients, origin, output, n);
+    }
+
+    // separate loops for the common cases keep them simple enough for the JIT to vectorize
+    private static void polynomial(double[] c, double origin, double[] data, int n) {
+        if (n > data.length) {
+            throw new IllegalArgumentException("n exceeds the array length");
+        }
+        if (c == null || c.length == 0) {
+            for (int i = 0; i < n; i++) {
+                data[i] -= origin;
+            }
+        } else if (c.length == 1) {
+            Arrays.fill(data, 0, n, c[0]);
+        } else if (c.length == 2) {
+            double c0 = c[0] - c[1] * origin;
+            double c1 = c[1];
+            for (int i = 0; i < n; i++) {
+                data[i] = c0 + c1 * data[i];
+            }
+        } else {
+            int last = c.length - 1;
+            for (int i = 0; i < n; i++) {
+                double x = data[i] - origin;
+                double y = c[last];
+                for (int k = last - 1; k >= 0; k--) {
+                    y = y * x + c[k];
+                }
+                data[i] = y;
+            }
+        }
+    }
 }
@@ -0,0 +1,117 @@
+// Copyright © 2016 German Neuroinformatics Node (G-Node)
+//
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted under the terms of the BSD License. See
+// LICENSE file in the root of the Project.
+
+#ifndef NIX_JAVA_ENTITY_FILTER_H
+#define NIX_JAVA_ENTITY_FILTER_H
+
+#include <nix/Block.hpp>
+#include <nix/File.hpp>
+#include <nix/Group.hpp>
+#include <nix/Section.hpp>
+
+#include <ctime>
+#include <limits>
+#include <string>
+#include <vector>
+
+namespace nix_java {
+
+// Criteria of org.g_node.nix.EntityFilter, empty strings and the full
+// time_t range mean that a criterion is not set.
+struct entity_filter {
+    std::string type;
+    std::string name_prefix;
+    std::string metadata_id;
+    std::string source_id;
+    time_t created_from;
+    time_t created_to;
+
+    template<typename T>
+    bool accepts_named(const T &e) const {
+        if (!type.empty() && e.type() != type) {
+            return false;
+        }
+        if (!name_prefix.empty() && e.name().compare(0, name_prefix.size(), name_prefix) != 0) {
+            return false;
+        }
+        if (created_from != std::numeric_limits<time_t>::min() ||
+            created_to != std::numeric_limits<time_t>::max()) {
+            time_t created = e.createdAt();
+            if (created < created_from || created > created_to) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    template<typename T>
+    bool accepts(const T &e) const {
+        if (!accepts_named(e)) {
+            return false;
+        }
+        if (!metadata_id.empty()) {
+            nix::Section s = e.metadata();
+            if (s.isNone() || s.id() != metadata_id) {
+                return false;
+            }
+        }
+        return source_id.empty() || e.hasSource(source_id);
+    }
+};
+
+#define NIX_JAVA_FILTER_ARGS const std::string &type, const std::string &name_prefix, \
+    const std::string &metadata_id, const std::string &source_id, time_t created_from, time_t created_to
+#define NIX_JAVA_FILTER {type, name_prefix, metadata_id, source_id, created_from, created_to}
+
+static inline std::vector<nix::DataArray> filter_data_arrays(const nix::Block &block, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return block.dataArrays([&f](const nix::DataArray &e) { return f.accepts(e); });
+}
+
+static inline std::vector<nix::Tag> filter_tags(const nix::Block &block, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return block.tags([&f](const nix::Tag &e) { return f.accepts(e); });
+}
+
+static inline std::vector<nix::MultiTag> filter_multi_tags(const nix::Block &block, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return block.multiTags([&f](const nix::MultiTag &e) { return f.accepts(e); });
+}
+
+static inline std::vector<nix::DataArray> filter_data_arrays(const nix::Group &group, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return group.dataArrays([&f](const nix::DataArray &e) { return f.accepts(e); });
+}
+
+static inline std::vector<nix::Tag> filter_tags(const nix::Group &group, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return group.tags([&f](const nix::Tag &e) { return f.accepts(e); });
+}
+
+static inline std::vector<nix::MultiTag> filter_multi_tags(const nix::Group &group, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return group.multiTags([&f](const nix::MultiTag &e) { return f.accepts(e); });
+}
+
+// Sections have neither metadata nor sources, only type, name and creation time are checked.
+static inline std::vector<nix::Section> filter_sections(const nix::File &file, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return file.sections([&f](const nix::Section &e) { return f.accepts_named(e); });
+}
+
+static inline std::vector<nix::Section> filter_sections(const nix::Section &section, NIX_JAVA_FILTER_ARGS) {
+    entity_filter f NIX_JAVA_FILTER;
+    return section.sections([&f](const nix::Section &e) { return f.accepts_named(e); });
+}
+
+#undef NIX_JAVA_FILTER
+#undef NIX_JAVA_FILTER_ARGS
+
+} // namespace nix_java
+
+#endif // NIX_JAVA_ENTITY_FILTER_H
@@ -0,0 +1,99 @@
+// Copyright © 2016 German Neuroinformatics Node (G-Node)
+//
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted under the terms of the BSD License. See
+// LICENSE file in the root of the Project.
+
+#ifndef NIX_JAVA_PROPERTY_H
+#define NIX_JAVA_PROPERTY_H
+
+#include <nix/Property.hpp>
+#include <nix/Variant.hpp>
+
+#include <cstdint>
+#include <stdexcept>
+#include <string>
+#include <vector>
+
+namespace nix_java {
+
+static inline std::vector<nix::Variant> property_values(const nix::Property &property, size_t n) {
+    std::vector<nix::Variant> values = property.values();
+    if (values.size() != n) {
+        throw std::invalid_argument("Number of values does not match the array size.");
+    }
+    return values;
+}
+
+// Copies n numeric values of a property into data, integers are converted to double.
+static inline void property_get_doubles(const nix::Property &property, double *data, size_t n) {
+    std::vector<nix::Variant> values = property_values(property, n);
+
+    for (size_t i = 0; i < n; i++) {
+        const nix::Variant &v = values[i];
+        switch (v.type()) {
+        case nix::DataType::Double: data[i] = v.get<double>(); break;
+        case nix::DataType::Int32: data[i] = v.get<int32_t>(); break;
+        case nix::DataType::UInt32: data[i] = v.get<uint32_t>(); break;
+        case nix::DataType::Int64: data[i] = static_cast<double>(v.get<int64_t>()); break;
+        case nix::DataType::UInt64: data[i] = static_cast<double>(v.get<uint64_t>()); break;
+        default: throw std::invalid_argument("Property values are not numeric.");
+        }
+    }
+}
+
+// Copies n integer values of a property into data.
+static inline void property_get_longs(const nix::Property &property, int64_t *data, size_t n) {
+    std::vector<nix::Variant> values = property_values(property, n);
+
+    for (size_t i = 0; i < n; i++) {
+        const nix::Variant &v = values[i];
+        switch (v.type()) {
+        case nix::DataType::Int32: data[i] = v.get<int32_t>(); break;
+        case nix::DataType::UInt32: data[i] = v.get<uint32_t>(); break;
+        case nix::DataType::Int64: data[i] = v.get<int64_t>(); break;
+        case nix::DataType::UInt64: data[i] = static_cast<int64_t>(v.get<uint64_t>()); break;
+        default: throw std::invalid_argument("Property values are not integers.");
+        }
+    }
+}
+
+static inline std::vector<std::string> property_get_strings(const nix::Property &property) {
+    std::vector<nix::Variant> values = property.values();
+    std::vector<std::string> strings;
+    strings.reserve(values.size());
+
+    for (const nix::Variant &v : values) {
+        strings.push_back(v.get<std::string>());
+    }
+    return strings;
+}
+
+template<typename T>
+static inline void property_set(nix::Property &property, const T *data, size_t n) {
+    std::vector<nix::Variant> values;
+    values.reserve(n);
+
+    for (size_t i = 0; i < n; i++) {
+        values.emplace_back(data[i]);
+    }
+    property.values(values);
+}
+
+static inline void property_set_doubles(nix::Property &property, const double *data, size_t n) {
+    property_set(property, data, n);
+}
+
+static inline void property_set_longs(nix::Property &property, const int64_t *data, size_t n) {
+    property_set(property, data, n);
+}
+
+static inline void property_set_strings(nix::Property &property, const std::vector<std::string> &strings) {
+    property_set(property, strings.data(), strings.size());
+}
+
+} // namespace nix_java
+
+#endif // NIX_JAVA_PROPERTY_H
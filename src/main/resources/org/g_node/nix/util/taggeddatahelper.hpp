@@ -0,0 +1,106 @@
+// Copyright © 2016 German Neuroinformatics Node (G-Node)
+//
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted under the terms of the BSD License. See
+// LICENSE file in the root of the Project.
+
+#ifndef NIX_JAVA_TAGGED_DATA_H
+#define NIX_JAVA_TAGGED_DATA_H
+
+#include <nix/util/dataAccess.hpp>
+#include <nix/DataArray.hpp>
+#include <nix/MultiTag.hpp>
+#include <nix/NDSize.hpp>
+
+#include <cstdint>
+#include <limits>
+#include <stdexcept>
+#include <vector>
+
+namespace nix_java {
+
+static inline nix::DataArray tagged_reference(const nix::MultiTag &tag, size_t reference_index) {
+    if (reference_index >= tag.referenceCount()) {
+        throw std::out_of_range("Reference index out of bounds.");
+    }
+    return tag.getReference(reference_index);
+}
+
+struct tagged_slice {
+    nix::NDSize offset;
+    nix::NDSize count;
+};
+
+// Computes the slice of each position, checks it against the extent of the data and
+// fills offsets (n + 1 entries) with the start of the data of each position within one
+// flat buffer. Returns the total number of elements.
+static inline nix::ndsize_t tagged_data_layout(const nix::MultiTag &tag, const nix::DataArray &array,
+                                               const nix::ndsize_t *positions, size_t n,
+                                               nix::ndsize_t *offsets, std::vector<tagged_slice> &slices) {
+    nix::ndsize_t total = 0;
+    slices.resize(n);
+
+    for (size_t i = 0; i < n; i++) {
+        tagged_slice &slice = slices[i];
+        nix::util::getOffsetAndCount(tag, array, static_cast<size_t>(positions[i]), slice.offset, slice.count);
+        if (!nix::util::positionAndExtentInData(array, slice.offset, slice.count)) {
+            throw std::out_of_range("References data slice out of the extent of the DataArray!");
+        }
+        offsets[i] = total;
+        total += slice.count.nelms();
+    }
+
+    offsets[n] = total;
+    return total;
+}
+
+static inline void tagged_data_fill(nix::DataArray &array, const std::vector<tagged_slice> &slices,
+                                    const nix::ndsize_t *offsets, double *data) {
+    for (size_t i = 0; i < slices.size(); i++) {
+        array.getDataDirect(nix::DataType::Double, data + offsets[i], slices[i].count, slices[i].offset);
+    }
+}
+
+// Fills offsets like tagged_data_layout without reading any data.
+static inline nix::ndsize_t tagged_data_offsets(const nix::MultiTag &tag, size_t reference_index,
+                                                const nix::ndsize_t *positions, size_t n,
+                                                nix::ndsize_t *offsets) {
+    std::vector<tagged_slice> slices;
+    return tagged_data_layout(tag, tagged_reference(tag, reference_index), positions, n, offsets, slices);
+}
+
+// Reads the data of all positions back to back into data, which holds capacity elements,
+// and fills offsets with the layout. Nothing is read if the data does not fit.
+static inline nix::ndsize_t tagged_data_read(const nix::MultiTag &tag, size_t reference_index,
+                                             const nix::ndsize_t *positions, size_t n,
+                                             nix::ndsize_t *offsets, double *data, size_t capacity) {
+    nix::DataArray array = tagged_reference(tag, reference_index);
+    std::vector<tagged_slice> slices;
+    nix::ndsize_t total = tagged_data_layout(tag, array, positions, n, offsets, slices);
+    if (total > capacity) {
+        throw std::out_of_range("Tagged data exceeds the size of the buffer.");
+    }
+    tagged_data_fill(array, slices, offsets, data);
+    return total;
+}
+
+// Reads the data of all positions back to back into a new vector and fills offsets with the layout.
+static inline std::vector<double> tagged_data(const nix::MultiTag &tag, size_t reference_index,
+                                              const nix::ndsize_t *positions, size_t n,
+                                              nix::ndsize_t *offsets) {
+    nix::DataArray array = tagged_reference(tag, reference_index);
+    std::vector<tagged_slice> slices;
+    nix::ndsize_t total = tagged_data_layout(tag, array, positions, n, offsets, slices);
+    if (total > static_cast<nix::ndsize_t>(std::numeric_limits<int32_t>::max())) {
+        throw std::length_error("Tagged data too big for an array.");
+    }
+    std::vector<double> data(static_cast<size_t>(total));
+    tagged_data_fill(array, slices, offsets, data.data());
+    return data;
+}
+
+}
+
+#endif // NIX_JAVA_TAGGED_DATA_H
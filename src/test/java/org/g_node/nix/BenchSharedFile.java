@@ -0,0 +1,84 @@
+package org.g_node.nix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Contention benchmark for {@link SharedFile}: reads random windows of a data array from
+ * an increasing number of threads and prints the throughput per thread count.
+ * <p>
+ * Not run as part of the tests, start it with the test class path and the native
+ * libraries available, e.g. <tt>java -cp ... org.g_node.nix.BenchSharedFile [reads]</tt>.
+ */
+public class BenchSharedFile {
+
+    private static final int SIZE = 1 << 22;
+    private static final int WINDOW = 4096;
+
+    public static void main(String[] args) throws Exception {
+        int reads = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        String path = "bench_SharedFile_" + UUID.randomUUID().toString() + ".h5";
+
+        File file = File.open(path, FileMode.Overwrite);
+        Block block = file.createBlock("bench", "benchmark");
+        DataArray da = block.createDataArray("data", "benchmark", DataType.Double, new NDSize(new int[]{SIZE}));
+        double[] data = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            data[i] = i;
+        }
+        da.setData(data, new NDSize(new int[]{SIZE}), new NDSize());
+        file.close();
+
+        try (SharedFile shared = File.openShared(path)) {
+            System.out.println("threads\treads/s\tMB/s");
+            for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                long start = System.nanoTime();
+                int done = run(shared, threads, reads);
+                double rate = done / ((System.nanoTime() - start) / 1e9);
+                System.out.printf("%d\t%.0f\t%.1f%n", threads, rate, rate * WINDOW * 8 / (1024.0 * 1024.0));
+            }
+        } finally {
+            new java.io.File(path).delete();
+        }
+    }
+
+    // returns the number of reads done, which is reads rounded down to a multiple of threads
+    private static int run(SharedFile shared, int threads, int reads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        int count = reads / threads;
+
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            results.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                double[] buffer = new double[WINDOW];
+                double sum = 0;
+                for (int i = 0; i < count; i++) {
+                    int offset = random.nextInt(SIZE - WINDOW);
+                    shared.read(f -> {
+                        DataArray da = f.getBlock(0).getDataArray("data");
+                        da.getData(buffer, new NDSize(new int[]{WINDOW}), new NDSize(new int[]{offset}));
+                        return null;
+                    });
+                    // per thread work outside of the lock
+                    for (double v : buffer) {
+                        sum += v;
+                    }
+                }
+                return sum;
+            }));
+        }
+
+        for (Future<?> result : results) {
+            result.get();
+        }
+        pool.shutdown();
+        return count * threads;
+    }
+}
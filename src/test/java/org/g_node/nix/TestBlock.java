@@ -53,11 +53,13 @@ public class TestBlock {
     @Test
     public void testId() {
         assertEquals(block.getId().length(), 36);
+        assertSame(block.getId(), block.getId());
     }
 
     @Test
     public void testName() {
         assertEquals(block.getName(), "block_one");
+        assertSame(block.getName(), block.getName());
     }
 
     @Test
@@ -195,6 +197,10 @@ public class TestBlock {
 
         assertEquals(block.getDataArrayCount(), names.size());
         assertEquals(block.getDataArrays().size(), names.size());
+        assertEquals(block.getDataArrayStream().count(), names.size());
+        assertEquals(block.getDataArrayStream()
+                .filter(da -> da.getName().equals("data_array_c"))
+                .findFirst().get().getId(), ids.get(2));
 
         for (String name : names) {
             DataArray da_name = block.getDataArray(name);
@@ -265,6 +271,8 @@ public class TestBlock {
 
         assertEquals(block.getGroupCount(), names.size());
         assertEquals(block.getGroups().size(), names.size());
+        assertEquals(block.getGroupStream().count(), names.size());
+        assertEquals(block.getGroups(g -> g.getId().equals(ids.get(0))).size(), 1);
 
 
         for (String id : ids) {
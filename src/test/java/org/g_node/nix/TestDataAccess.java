@@ -7,6 +7,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -137,6 +140,20 @@ public class TestDataAccess {
         assertTrue(DataAccess.positionToIndex(3.6, unit, rangeDim) == 2);
         assertTrue(DataAccess.positionToIndex(4.0, unit, rangeDim) == 2);
         assertTrue(DataAccess.positionToIndex(0.0036, scaled_unit, rangeDim) == 2);
+
+        double[] positions = {8.0, 1.0, 3.4, 3.6, 4.0};
+        assertArrayEquals(new long[]{4, 0, 2, 2, 2}, DataAccess.positionToIndex(positions, unit, rangeDim));
+        assertArrayEquals(new long[]{0, 2, 4}, DataAccess.positionToIndex(new double[]{0.001, 0.0036, 0.008}, scaled_unit, rangeDim));
+        DoubleBuffer buffer = DoubleBuffer.wrap(positions);
+        buffer.position(3);
+        assertArrayEquals(new long[]{2, 2}, DataAccess.positionToIndex(buffer, unit, rangeDim));
+        assertEquals(3, buffer.position());
+
+        try {
+            DataAccess.positionToIndex(positions, invalid_unit, rangeDim);
+            fail();
+        } catch (RuntimeException re) {
+        }
     }
 
     @Test
@@ -159,6 +176,21 @@ public class TestDataAccess {
 
         assertTrue(DataAccess.positionToIndex(5.0, unit, sampledDim) == 5);
         assertTrue(DataAccess.positionToIndex(0.005, scaled_unit, sampledDim) == 5);
+
+        assertArrayEquals(new long[]{5, 0, 2}, DataAccess.positionToIndex(new double[]{5.0, 0.0, 2.0}, unit, sampledDim));
+        assertArrayEquals(new long[]{5}, DataAccess.positionToIndex(DoubleBuffer.wrap(new double[]{0.005}), scaled_unit, sampledDim));
+
+        try {
+            DataAccess.positionToIndex(new double[]{5.0, -1.0}, unit, sampledDim);
+            fail();
+        } catch (RuntimeException re) {
+        }
+
+        try {
+            DataAccess.positionToIndex(new double[]{0.005}, invalid_unit, sampledDim);
+            fail();
+        } catch (RuntimeException re) {
+        }
     }
 
     @Test
@@ -319,6 +351,64 @@ public class TestDataAccess {
         assertTrue(data_size_arr[0] == 1 && data_size_arr[1] == 7 && data_size_arr[2] == 2);
     }
 
+    @Test
+    public void testRetrieveDataBatch() {
+        long[] positions = {0, 0};
+        long[] offsets = new long[3];
+
+        double[] data = DataAccess.taggedData(multi_tag, 0, positions, offsets);
+        assertTrue(offsets[0] == 0 && offsets[1] == 14 && offsets[2] == 28);
+        assertTrue(data.length == 28);
+
+        DataView view = DataAccess.taggedData(multi_tag, 0, 0);
+        double[] expected = new double[14];
+        view.getData(expected, view.getDataExtent(), new NDSize(new int[]{0, 0, 0}));
+        for (int i = 0; i < 14; i++) {
+            assertTrue(data[i] == expected[i]);
+            assertTrue(data[i + 14] == expected[i]);
+        }
+
+        try {
+            DataAccess.taggedData(multi_tag, 0, new long[]{0, 1}, offsets);
+            fail();
+        } catch (RuntimeException re) {
+        }
+
+        try {
+            DataAccess.taggedData(multi_tag, 1, positions, offsets);
+            fail();
+        } catch (RuntimeException re) {
+        }
+
+        try {
+            DataAccess.taggedData(multi_tag, 0, positions, new long[2]);
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        try {
+            DataAccess.taggedData(multi_tag, 0, positions, new long[2], new double[28]);
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        // the layout is computed by the read itself, caller values are overwritten
+        long[] layout = {0, 10, 20};
+        double[] into = new double[30];
+        assertTrue(DataAccess.taggedData(multi_tag, 0, positions, layout, into) == 28);
+        assertTrue(layout[0] == 0 && layout[1] == 14 && layout[2] == 28);
+        for (int i = 0; i < 28; i++) {
+            assertTrue(into[i] == data[i]);
+        }
+
+        // data that does not fit is not read
+        try {
+            DataAccess.taggedData(multi_tag, 0, positions, layout, new double[20]);
+            fail();
+        } catch (RuntimeException re) {
+        }
+    }
+
     @Test
     public void testTagFeatureData() {
         DataArray number_feat = block.createDataArray("number feature", "test", DataType.Double, new NDSize(new int[]{1}));
@@ -493,5 +583,26 @@ public class TestDataAccess {
 
         assertEquals(zcount, io.getDataExtent());
         assertEquals(data_array.getDataType(), io.getDataType());
+
+        double[] data = new double[2 * 5 * 2];
+        io.getData(data, zcount, new NDSize(new int[]{0, 0, 0}));
+        for (int i = 0; i != 2; ++i) {
+            for (int j = 0; j != 5; ++j) {
+                for (int k = 0; k != 2; ++k) {
+                    assertTrue(data[i * 5 * 2 + j * 2 + k] == (5 + j) * 5 + (2 + k));
+                }
+            }
+        }
+
+        DoubleBuffer buffer = ByteBuffer.allocateDirect(2 * 8).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        io.getData(buffer, new NDSize(new int[]{1, 1, 2}), new NDSize(new int[]{1, 4, 0}));
+        assertTrue(buffer.get(0) == 9 * 5 + 2);
+        assertTrue(buffer.get(1) == 9 * 5 + 3);
+
+        DataView tagged = DataAccess.taggedData(segment_tag, 0);
+        NDSize extent = tagged.getDataExtent();
+        double[] segment = new double[(int) extent.getElementsProduct()];
+        tagged.getData(segment, extent, new NDSize(new int[]{0, 0, 0}));
+        assertTrue(segment[0] == 2 * 5 + 2);
     }
 }
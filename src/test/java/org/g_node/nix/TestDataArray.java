@@ -1,13 +1,24 @@
 package org.g_node.nix;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import org.bytedeco.javacpp.DoublePointer;
 import org.g_node.nix.valid.Result;
 import org.g_node.nix.valid.Validator;
 import org.junit.After;
@@ -195,6 +206,305 @@ public class TestDataArray {
         }
     }
 
+    @Test
+    public void testCalibratedData() {
+        DataArray da = block.createDataArray("calibrated", "raw", DataType.Int16, new NDSize(new int[]{4}));
+        da.setData(new short[]{0, 10, 20, -30}, new NDSize(new int[]{4}), new NDSize(new int[]{0}));
+        da.setPolynomCoefficients(new double[]{1.0, 0.5});
+        da.setExpansionOrigin(10.0);
+
+        double[] data = new double[4];
+        da.getCalibratedData(data, new NDSize(new int[]{4}), new NDSize(new int[]{0}));
+        assertArrayEquals(data, new double[]{-4.0, 1.0, 6.0, -19.0}, 1e-12);
+
+        double[] part = new double[2];
+        da.getCalibratedData(part, new NDSize(new int[]{2}), new NDSize(new int[]{2}));
+        assertArrayEquals(part, new double[]{6.0, -19.0}, 1e-12);
+
+        try {
+            da.getCalibratedData(part, new NDSize(new int[]{4}), new NDSize(new int[]{0}));
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        CalibratedDataReader reader = da.calibratedReader();
+        assertArrayEquals(reader.getCoefficients(), new double[]{1.0, 0.5}, 0.0);
+        assertTrue(reader.getOrigin() == 10.0);
+        reader.read(data, new NDSize(new int[]{4}), new NDSize(new int[]{0}));
+        assertArrayEquals(data, new double[]{-4.0, 1.0, 6.0, -19.0}, 1e-12);
+        for (int start = 0; start < 4; start += 2) {
+            reader.read(part, new NDSize(new int[]{2}), new NDSize(new int[]{start}));
+            assertArrayEquals(part, new double[]{data[start], data[start + 1]}, 1e-12);
+        }
+    }
+
+    @Test
+    public void testDataDirectBuffer() {
+        DoubleBuffer A = ByteBuffer.allocateDirect(5 * 8).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        for (int i = 0; i < 5; i++) {
+            A.put(i, 1.5 * i);
+        }
+
+        DataArray da = block.createDataArray("direct-buffer",
+                "double",
+                DataType.Double,
+                new NDSize(new int[]{5}));
+        da.setData(A, new NDSize(new int[]{5}), new NDSize());
+
+        DoubleBuffer B = ByteBuffer.allocateDirect(6 * 8).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        B.position(1);
+        da.getData(B, new NDSize(new int[]{5}), new NDSize());
+
+        assertTrue(B.get(0) == 0.0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(A.get(i) == B.get(i + 1));
+        }
+
+        DoublePointer dp = new DoublePointer(5);
+        da.getData(dp, new NDSize(new int[]{5}), new NDSize());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(A.get(i) == dp.get(i));
+        }
+
+        try {
+            da.getData(DoubleBuffer.allocate(5), new NDSize(new int[]{5}), new NDSize());
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        ByteOrder swapped = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        try {
+            da.getData(ByteBuffer.allocateDirect(5 * 8).order(swapped).asDoubleBuffer(), new NDSize(new int[]{5}), new NDSize());
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        try {
+            da.getData(A, new NDSize(new int[]{6}), new NDSize());
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        try {
+            da.getData(new DoublePointer(4), new NDSize(new int[]{5}), new NDSize());
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        try {
+            da.setData(new DoublePointer(6).position(2), new NDSize(new int[]{5}), new NDSize());
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        // byte buffers are accepted in their default, big endian, order
+        DataArray bytes = block.createDataArray("direct-bytes", "int8", DataType.Int8, new NDSize(new int[]{5}));
+        ByteBuffer C = ByteBuffer.allocateDirect(5);
+        for (int i = 0; i < 5; i++) {
+            C.put(i, (byte) (i - 2));
+        }
+        bytes.setData(C, new NDSize(new int[]{5}), new NDSize());
+
+        ByteBuffer D = ByteBuffer.allocateDirect(5).order(swapped);
+        bytes.getData(D, new NDSize(new int[]{5}), new NDSize());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(C.get(i) == D.get(i));
+        }
+    }
+
+    @Test
+    public void testDataBuffer() {
+        DoubleBuffer all = array3.getDataBuffer();
+        assertTrue(all.isReadOnly());
+        assertTrue(all.isDirect());
+        assertEquals(all.capacity(), 20);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(all.get(i) == 1.3 * i);
+        }
+
+        DoubleBuffer part = array3.getDataBuffer(new NDSize(new int[]{5}), new NDSize(new int[]{10}));
+        assertEquals(part.capacity(), 5);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(part.get(i) == 1.3 * (i + 10));
+        }
+    }
+
+    @Test
+    public void testDataAsync() throws Exception {
+        DoubleBuffer A = ByteBuffer.allocateDirect(10 * 8).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        for (int i = 0; i < 10; i++) {
+            A.put(i, 2.5 * i);
+        }
+
+        DataArray da = block.createDataArray("async",
+                "double",
+                DataType.Double,
+                new NDSize(new int[]{10}));
+
+        CompletableFuture<Void> written = da.setDataAsync(A, new NDSize(new int[]{10}), new NDSize());
+        DoubleBuffer B = ByteBuffer.allocateDirect(10 * 8).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        DoubleBuffer read = da.getDataAsync(B, new NDSize(new int[]{10}), new NDSize()).get();
+
+        assertTrue(written.isDone());
+        assertTrue(read == B);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(A.get(i) == B.get(i));
+        }
+
+        try {
+            da.getDataAsync(B, new NDSize(new int[]{20}), new NDSize());
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        try {
+            da.getDataAsync(B, new NDSize(new int[]{10}), new NDSize(new int[]{5})).get();
+            fail();
+        } catch (ExecutionException ee) {
+        }
+
+        // operations queued behind each other finish after the default executor is replaced
+        List<CompletableFuture<DoubleBuffer>> reads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            reads.add(da.getDataAsync(B, new NDSize(new int[]{10}), new NDSize()));
+        }
+        AsyncDataIO.setExecutor(null);
+        for (CompletableFuture<DoubleBuffer> r : reads) {
+            assertTrue(r.get() == B);
+        }
+        assertTrue(da.getDataAsync(B, new NDSize(new int[]{10}), new NDSize()).get() == B);
+
+        // operations run on the submitting thread may submit further operations
+        AsyncDataIO.setExecutor(Runnable::run);
+        try {
+            CompletableFuture<DoubleBuffer> nested = da.getDataAsync(B, new NDSize(new int[]{10}), new NDSize())
+                    .thenCompose(b -> da.getDataAsync(b, new NDSize(new int[]{10}), new NDSize()));
+            assertTrue(nested.isDone());
+            assertTrue(nested.get() == B);
+        } finally {
+            AsyncDataIO.setExecutor(null);
+        }
+    }
+
+    @Test
+    public void testAppender() {
+        DataArray da = block.createDataArray("appended",
+                "double",
+                DataType.Double,
+                new NDSize(new int[]{0, 3}));
+
+        try (DataArrayAppender appender = da.appender(4)) {
+            assertEquals(appender.getRowSize(), 3);
+            double[] row = new double[3 * 3];
+            for (int k = 0; k < 5; k++) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = k * row.length + i;
+                }
+                appender.append(row);
+            }
+            assertEquals(appender.getRowCount(), 15);
+        }
+
+        int[] extent = da.getDataExtent().getData();
+        assertEquals(extent[0], 15);
+        assertEquals(extent[1], 3);
+
+        double[] data = new double[15 * 3];
+        da.getData(data, new NDSize(new int[]{15, 3}), new NDSize(new int[]{0, 0}));
+        for (int i = 0; i < data.length; i++) {
+            assertTrue(data[i] == i);
+        }
+
+        try (DataArrayAppender appender = da.appender(4)) {
+            appender.append(new double[4]);
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        DataArray samples = block.createDataArray("appended-short",
+                "int16",
+                DataType.Int16,
+                new NDSize(new int[]{0, 2}));
+
+        try (DataArrayAppender appender = samples.appender(3)) {
+            appender.append(new short[]{0, 1, 2, 3, 4, 5, 6, 7});
+            appender.append(new int[]{8, 9}, 0, 1);
+            assertEquals(appender.getRowCount(), 5);
+        }
+        assertEquals(samples.getDataExtent().getData()[0], 5);
+
+        short[] stored = new short[5 * 2];
+        samples.getData(stored, new NDSize(new int[]{5, 2}), new NDSize(new int[]{0, 0}));
+        for (int i = 0; i < stored.length; i++) {
+            assertEquals(stored[i], i);
+        }
+    }
+
+    @Test
+    public void testChunks() {
+        for (boolean prefetch : new boolean[]{false, true}) {
+            int chunks = 0;
+            int elements = 0;
+            try (DataChunkIterator it = array3.chunks(new NDSize(new int[]{6}), prefetch)) {
+                while (it.hasNext()) {
+                    DataChunk chunk = it.next();
+                    assertEquals(chunk.getOffset()[0], chunks * 6);
+                    assertEquals(chunk.getCount()[0], chunks < 3 ? 6 : 2);
+
+                    double[] data = chunk.getData();
+                    for (int i = 0; i < chunk.getSize(); i++) {
+                        assertTrue(data[i] == 1.3 * (chunk.getOffset()[0] + i));
+                    }
+
+                    elements += chunk.getSize();
+                    chunks++;
+                }
+            }
+            assertEquals(chunks, 4);
+            assertEquals(elements, 20);
+        }
+
+        int chunks = 0;
+        try (DataChunkIterator it = array3.chunks(new NDSize(new long[]{4}), new NDSize(new long[]{5}),
+                new NDSize(new long[]{10}), false)) {
+            while (it.hasNext()) {
+                DataChunk chunk = it.next();
+                assertEquals(chunk.getOffset()[0], 5 + chunks * 4);
+                assertEquals(chunk.getCount()[0], chunks < 2 ? 4 : 2);
+                assertTrue(chunk.getData()[0] == 1.3 * chunk.getOffset()[0]);
+                chunks++;
+            }
+        }
+        assertEquals(chunks, 3);
+
+        // exhausting the iterator without closing it stops prefetching
+        DataChunkIterator exhausted = array3.chunks(new NDSize(new int[]{8}), true);
+        chunks = 0;
+        for (; exhausted.hasNext(); exhausted.next()) {
+            chunks++;
+        }
+        assertEquals(chunks, 3);
+        assertFalse(exhausted.hasNext());
+        try {
+            exhausted.next();
+            fail();
+        } catch (NoSuchElementException nse) {
+        }
+        exhausted.close();
+
+        try {
+            array3.chunks(new NDSize(new int[]{2, 2}));
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        try {
+            array3.chunks(new NDSize(new long[]{4}), new NDSize(new long[]{15}), new NDSize(new long[]{10}), false);
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+    }
+
     @Test
     public void testDimension() {
         double[] ticks = new double[5];
@@ -7,6 +7,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -297,6 +298,25 @@ public class TestDimension {
         assertTrue(109 * samplingInterval + offset ==
                 axis[axis.length - 1]);
 
+        DoubleBuffer axis_buffer = sd.getAxisBuffer(100, 10);
+        assertTrue(axis_buffer.remaining() == 100);
+        assertTrue(axis[99] == axis_buffer.get(99));
+
+        Axis view = sd.getAxisView();
+        double[] window = new double[100];
+        view.fill(window, 10, 100);
+        assertArrayEquals(window, axis, 1e-12);
+        assertTrue(view.positionAt(10) == axis[0]);
+        assertEquals(view.indexOf(axis[42]), 52);
+        assertEquals(view.indexOf(axis[42] + 0.4 * samplingInterval), 52);
+        assertEquals(view.indexOf(sd.getPositionAt(7)), sd.getIndexOf(sd.getPositionAt(7)));
+
+        try {
+            view.indexOf(offset - samplingInterval);
+            fail();
+        } catch (RuntimeException re) {
+        }
+
         data_array.deleteDimensions();
     }
 
@@ -423,6 +443,13 @@ public class TestDimension {
             assertTrue(new_ticks[i] == retrieved_ticks[i]);
         }
 
+        DoubleBuffer ticks_buffer = rd.getTicksBuffer();
+        assertTrue(ticks_buffer.isDirect());
+        assertTrue(ticks_buffer.remaining() == new_ticks.length);
+        for (int i = 0; i < new_ticks.length; i++) {
+            assertTrue(new_ticks[i] == ticks_buffer.get(i));
+        }
+
         data_array.deleteDimensions();
     }
 
@@ -439,6 +466,22 @@ public class TestDimension {
         assertTrue(rd.getIndexOf(257.28) == 4);
         assertTrue(rd.getIndexOf(-257.28) == 0);
 
+        Axis view = rd.getAxisView();
+        for (double position : new double[]{-100., -50., -70., 5.0, 257.28, -257.28, 10., 99.}) {
+            assertEquals(view.indexOf(position), rd.getIndexOf(position));
+        }
+
+        double[] window = new double[3];
+        view.fill(window, 1, 3);
+        assertArrayEquals(window, rd.getAxis(3, 1), 0.0);
+        assertTrue(view.positionAt(4) == 100.0);
+
+        try {
+            view.positionAt(5);
+            fail();
+        } catch (RuntimeException re) {
+        }
+
         data_array.deleteDimensions();
     }
 
@@ -466,6 +509,28 @@ public class TestDimension {
         } catch (RuntimeException re) {
         }
 
+        assertFalse(rd.isTickCacheEnabled());
+        rd.setTickCacheEnabled(true);
+        assertTrue(rd.isTickCacheEnabled());
+        assertTrue(rd.getTickAt(0) == -100.);
+        assertTrue(rd.getTickAt(4) == 100.);
+        assertTrue(rd.getIndexOf(5.0) == 2);
+
+        try {
+            rd.getTickAt(10);
+            fail();
+        } catch (RuntimeException re) {
+        }
+
+        rd.setTicks(new double[]{-1.0, 1.0, 2.0});
+        assertTrue(rd.getTickAt(2) == 2.);
+        assertTrue(rd.getIndexOf(5.0) == 2);
+        assertTrue(rd.getAxisView().positionAt(1) == 1.);
+
+        rd.setTickCacheEnabled(false);
+        assertFalse(rd.isTickCacheEnabled());
+        assertTrue(rd.getTickAt(2) == 2.);
+
         data_array.deleteDimensions();
     }
 
@@ -485,6 +550,11 @@ public class TestDimension {
         assertTrue(axis[0] == 0.0);
         assertTrue(axis[1] == 10.0);
 
+        DoubleBuffer axis_buffer = rd.getAxisBuffer(2, 2);
+        assertTrue(axis_buffer.remaining() == 2);
+        assertTrue(axis_buffer.get(0) == 0.0);
+        assertTrue(axis_buffer.get(1) == 10.0);
+
         try {
             rd.getAxis(10);
             fail();
@@ -0,0 +1,91 @@
+package org.g_node.nix;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+@NotThreadSafe
+public class TestEntityFilter {
+
+    private File file;
+    private Block block;
+    private Section section;
+    private Source source;
+
+    @Before
+    public void setUp() {
+        file = File.open("test_EntityFilter_" + UUID.randomUUID().toString() + ".h5", FileMode.Overwrite);
+        block = file.createBlock("block_one", "dataset");
+        section = file.createSection("session", "recording");
+        section.createSection("stimulus_a", "stimulus");
+        section.createSection("stimulus_b", "stimulus");
+        section.createSection("setup", "hardware");
+        source = block.createSource("electrode", "hardware");
+
+        for (int i = 0; i < 6; i++) {
+            DataArray da = block.createDataArray("channel_" + i, i % 2 == 0 ? "nix.sampled" : "nix.events",
+                    DataType.Double, new NDSize(new int[]{1}));
+            if (i < 2) {
+                da.setMetadata(section);
+            }
+            if (i % 3 == 0) {
+                da.addSource(source);
+            }
+        }
+        block.createDataArray("other", "nix.sampled", DataType.Double, new NDSize(new int[]{1}));
+    }
+
+    @After
+    public void tearDown() {
+        String location = file.getLocation();
+
+        file.close();
+
+        // delete file
+        java.io.File f = new java.io.File(location);
+        f.delete();
+    }
+
+    @Test
+    public void testDataArrays() {
+        assertEquals(block.getDataArrays(new EntityFilter()).size(), 7);
+        assertEquals(block.getDataArrays(new EntityFilter().type("nix.sampled")).size(), 4);
+        assertEquals(block.getDataArrays(new EntityFilter().namePrefix("channel_")).size(), 6);
+        assertEquals(block.getDataArrays(new EntityFilter().type("nix.sampled").namePrefix("channel_")).size(), 3);
+        assertEquals(block.getDataArrays(new EntityFilter().metadata(section)).size(), 2);
+        assertEquals(block.getDataArrays(new EntityFilter().source(source)).size(), 2);
+        assertEquals(block.getDataArrays(new EntityFilter().source("electrode").type("nix.events")).size(), 1);
+
+        Date now = new Date();
+        assertEquals(block.getDataArrays(new EntityFilter().createdBetween(null, new Date(now.getTime() + 10000))).size(), 7);
+        assertEquals(block.getDataArrays(new EntityFilter().createdBetween(new Date(now.getTime() + 10000), null)).size(), 0);
+
+        for (DataArray da : block.getDataArrays(new EntityFilter().type("nix.events"))) {
+            assertEquals(da.getType(), "nix.events");
+        }
+
+        try {
+            new EntityFilter().type("");
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+    }
+
+    @Test
+    public void testSections() {
+        assertEquals(file.getSections(new EntityFilter().type("recording")).size(), 1);
+        assertEquals(section.getSections(new EntityFilter().type("stimulus")).size(), 2);
+        assertEquals(section.getSections(new EntityFilter().namePrefix("set")).size(), 1);
+
+        try {
+            section.getSections(new EntityFilter().source(source));
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+    }
+}
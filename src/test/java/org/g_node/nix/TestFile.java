@@ -1,6 +1,7 @@
 package org.g_node.nix;
 
 import net.jcip.annotations.NotThreadSafe;
+import org.g_node.nix.base.EntityCache;
 import org.g_node.nix.valid.Result;
 import org.g_node.nix.valid.Validator;
 import org.junit.After;
@@ -70,6 +71,119 @@ public class TestFile {
         //are non-breaking changes, so we ignore these
     }
 
+    @Test
+    public void testOpenShared() throws Exception {
+        String location = "test_File_shared_" + UUID.randomUUID().toString() + ".h5";
+        File f = File.open(location, FileMode.Overwrite);
+        Block b = f.createBlock("shared", "test");
+        DataArray da = b.createDataArray("data", "test", DataType.Double, new NDSize(new int[]{100}));
+        double[] data = new double[100];
+        for (int i = 0; i < 100; i++) {
+            data[i] = i;
+        }
+        da.setData(data, new NDSize(new int[]{100}), new NDSize());
+        f.close();
+
+        try {
+            try (SharedFile shared = File.openShared(location)) {
+                List<Thread> threads = new ArrayList<>();
+                List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+                Set<File> handles = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+                for (int t = 0; t < 4; t++) {
+                    int offset = t * 10;
+                    Thread thread = new Thread(() -> {
+                        try {
+                            double[] buffer = shared.read(sf -> {
+                                handles.add(sf);
+                                double[] out = new double[10];
+                                sf.getBlock("shared").getDataArray("data")
+                                        .getData(out, new NDSize(new int[]{10}), new NDSize(new int[]{offset}));
+                                return out;
+                            });
+                            for (int i = 0; i < 10; i++) {
+                                assertTrue(buffer[i] == offset + i);
+                            }
+                        } catch (Throwable e) {
+                            errors.add(e);
+                        }
+                    });
+                    threads.add(thread);
+                    thread.start();
+                }
+
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+
+                assertTrue(errors.isEmpty());
+                assertEquals(handles.size(), 4);
+            }
+
+            SharedFile closed = File.openShared(location);
+            closed.getFile();
+            closed.close();
+            closed.close();
+            try {
+                closed.getFile();
+                fail();
+            } catch (IllegalStateException ise) {
+            }
+            try {
+                closed.read(File::getBlockCount);
+                fail();
+            } catch (IllegalStateException ise) {
+            }
+        } finally {
+            new java.io.File(location).delete();
+        }
+    }
+
+    @Test
+    public void testEntityCache() {
+        assertNull(file_open.getEntityCache());
+        Block b = file_open.createBlock("cached_block", "test");
+        DataArray da = b.createDataArray("cached_array", "test", DataType.Double, new NDSize(new int[]{0}));
+        assertNotSame(file_open.getBlock(b.getId()), file_open.getBlock(b.getId()));
+
+        EntityCache cache = new EntityCache(16);
+        file_open.setEntityCache(cache);
+        assertSame(file_open.getEntityCache(), cache);
+
+        Block cached = file_open.getBlock(b.getId());
+        assertSame(cached, file_open.getBlock("cached_block"));
+        assertSame(cached, file_open.getBlocks().get(0));
+        assertEquals(cached, b);
+
+        DataArray array = cached.getDataArray(da.getId());
+        assertSame(array, cached.getDataArray("cached_array"));
+        assertSame(array, cached.getDataArrays().get(0));
+        assertEquals(cache.size(), 2);
+        assertTrue(cache.getHits() >= 4);
+
+        Section section = file_open.createSection("cached_section", "test");
+        array.setMetadata(section);
+        cached.setMetadata(section);
+        Section metadata = array.getMetadata();
+        assertSame(metadata, array.getMetadata());
+        assertSame(metadata, cached.getMetadata());
+        assertSame(cached, file_open.getBlock(0));
+        assertEquals(cache.size(), 3);
+
+        cache.clear();
+        assertEquals(cache.size(), 0);
+        assertNotSame(cached, file_open.getBlock(b.getId()));
+
+        file_open.setEntityCache(null);
+        assertNotSame(file_open.getBlock(b.getId()), file_open.getBlock(b.getId()));
+
+        try {
+            new EntityCache(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     @Test
     public void testCreatedAt() {
         assertTrue(file_open.getCreatedAt().compareTo(statup_time) >= 0);
@@ -0,0 +1,123 @@
+package org.g_node.nix;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+@NotThreadSafe
+public class TestMetadataIndex {
+
+    private File file;
+    private Section session1, session2;
+    private MetadataIndex index;
+
+    @Before
+    public void setUp() {
+        file = File.open("test_MetadataIndex_" + UUID.randomUUID().toString() + ".h5", FileMode.Overwrite);
+
+        Section sessions = file.createSection("sessions", "container");
+        session1 = sessions.createSection("session_1", "session");
+        session2 = sessions.createSection("session_2", "session");
+        session1.createProperty("stimulus", new Variant("grating"));
+        session1.createProperty("trials", new Variant(20));
+        session2.createProperty("stimulus", new Variant("noise"));
+
+        index = file.createMetadataIndex();
+    }
+
+    @After
+    public void tearDown() {
+        index.close();
+
+        String location = file.getLocation();
+
+        file.close();
+
+        // delete file
+        java.io.File f = new java.io.File(location);
+        f.delete();
+    }
+
+    @Test
+    public void testBuild() {
+        assertEquals(index.getSectionCount(), 3);
+        assertEquals(index.getPropertyCount(), 3);
+
+        assertEquals(index.getSectionIdsByType("session").size(), 2);
+        assertTrue(index.getSectionIdsByName("session_1").contains(session1.getId()));
+        assertEquals(index.getPropertyIdsByName("stimulus").size(), 2);
+        assertEquals(index.getPropertyIds("trials", 20).size(), 1);
+        assertEquals(index.getPropertyIds("trials", 20L).size(), 1);
+
+        List<Section> found = index.findSections("stimulus", "grating");
+        assertEquals(found.size(), 1);
+        assertEquals(found.get(0).getId(), session1.getId());
+        assertEquals(index.getSection(session1.getId()).getName(), "session_1");
+
+        String propertyId = index.getPropertyIds("stimulus", "noise").iterator().next();
+        assertEquals(index.getProperty(propertyId).getName(), "stimulus");
+    }
+
+    @Test
+    public void testUpdates() {
+        Section session3 = session2.createSection("session_3", "session");
+        Property stimulus = session3.createProperty("stimulus", new Variant("grating"));
+        assertEquals(index.getSectionIdsByType("session").size(), 3);
+        assertEquals(index.findSections("stimulus", "grating").size(), 2);
+
+        stimulus.setValues(Collections.singletonList(new Variant("bars")));
+        assertEquals(index.findSections("stimulus", "grating").size(), 1);
+        assertEquals(index.findSections("stimulus", "bars").size(), 1);
+
+        session3.setType("pause");
+        assertEquals(index.getSectionIdsByType("session").size(), 2);
+        assertEquals(index.getSectionIdsByType("pause").size(), 1);
+
+        session1.deleteProperty("stimulus");
+        assertEquals(index.findSections("stimulus", "grating").size(), 0);
+
+        session2.deleteSection(session3);
+        assertEquals(index.getSectionCount(), 3);
+        assertEquals(index.findSections("stimulus", "bars").size(), 0);
+
+        file.createSection("setup", "hardware");
+        assertEquals(index.getSectionIdsByType("hardware").size(), 1);
+
+        file.deleteSection("sessions");
+        assertEquals(index.getSectionCount(), 1);
+        assertEquals(index.getPropertyCount(), 0);
+    }
+
+    @Test
+    public void testUnsigned() {
+        Variant channels = new Variant();
+        channels.setUInt(64);
+        session1.createProperty("channels", channels);
+
+        Variant serial = new Variant();
+        serial.setULong(-1L);
+        session2.createProperty("serial", serial);
+
+        assertEquals(index.getPropertyIds("channels", 64).size(), 1);
+        assertEquals(index.getPropertyIds("channels", 64L).size(), 1);
+        assertEquals(index.findSections("serial", new BigInteger("18446744073709551615")).size(), 1);
+        assertEquals(index.getPropertyIds("serial", -1L).size(), 0);
+    }
+
+    @Test
+    public void testOtherHandle() {
+        // the same file opened with a different spelling of its path
+        String absolute = new java.io.File(file.getLocation()).getAbsolutePath();
+        File other = File.open(absolute, FileMode.ReadWrite);
+        other.createSection("setup", "hardware");
+        other.close();
+
+        assertEquals(index.getSectionIdsByType("hardware").size(), 1);
+    }
+}
@@ -0,0 +1,70 @@
+package org.g_node.nix;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+@NotThreadSafe
+public class TestNDSize {
+
+    @Test
+    public void testAccess() {
+        NDSize size = new NDSize(new int[]{3, 4, 2});
+        assertEquals(size.getSize(), 3);
+        assertEquals(size.get(1), 4);
+
+        assertSame(size.set(1, 5L + Integer.MAX_VALUE), size);
+        assertEquals(size.get(1), 5L + Integer.MAX_VALUE);
+        assertArrayEquals(size.getLongData(), new long[]{3, 5L + Integer.MAX_VALUE, 2});
+
+        long[] data = new long[4];
+        assertSame(size.set(new long[]{7, 8, 9}).getData(data), data);
+        assertArrayEquals(data, new long[]{7, 8, 9, 0});
+
+        try {
+            size.get(3);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+        }
+
+        try {
+            size.set(new long[]{1, 2});
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testLong() {
+        long big = 3L * Integer.MAX_VALUE;
+        NDSize size = new NDSize(new long[]{big, 2});
+        assertEquals(size.getSize(), 2);
+        assertArrayEquals(size.getLongData(), new long[]{big, 2});
+        assertEquals(size.getElementsProduct(), 2 * big);
+        assertEquals(size, new NDSize(new long[]{big, 2}));
+        assertNotEquals(size, new NDSize(new long[]{big + 1, 2}));
+    }
+
+    @Test
+    public void testArithmetic() {
+        NDSize offset = new NDSize(new int[]{10, 20});
+        NDSize count = new NDSize(new int[]{1, 2});
+
+        assertArrayEquals(offset.add(count).getData(), new int[]{11, 22});
+        assertArrayEquals(offset.sub(count).getData(), new int[]{10, 20});
+        assertArrayEquals(offset.add(5).getData(), new int[]{15, 25});
+        assertArrayEquals(offset.sub(5).getData(), new int[]{10, 20});
+        assertEquals(offset.dot(count), 50);
+
+        NDSize other = new NDSize(3, 0);
+        assertEquals(other.copyFrom(offset), offset);
+        assertEquals(other.getSize(), 2);
+
+        try {
+            offset.add(new NDSize(3, 1));
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+}
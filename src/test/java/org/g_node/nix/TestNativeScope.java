@@ -0,0 +1,126 @@
+package org.g_node.nix;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.g_node.nix.base.NativeScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+@NotThreadSafe
+public class TestNativeScope {
+
+    private File file;
+    private Block block;
+
+    @Before
+    public void setUp() {
+        file = File.open("test_NativeScope_" + UUID.randomUUID().toString() + ".h5", FileMode.Overwrite);
+        block = file.createBlock("block_one", "dataset");
+        block.createDataArray("array_one", "test", DataType.Double, new NDSize(new int[]{10}));
+    }
+
+    @After
+    public void tearDown() {
+        String location = file.getLocation();
+
+        file.close();
+
+        // delete file
+        java.io.File f = new java.io.File(location);
+        f.delete();
+    }
+
+    @Test
+    public void testScope() {
+        assertNull(NativeScope.getCurrent());
+
+        Block b;
+        DataArray da;
+        NDSize extent;
+        try (NativeScope scope = new NativeScope()) {
+            assertSame(NativeScope.getCurrent(), scope);
+
+            b = file.getBlock("block_one");
+            da = b.getDataArray("array_one");
+            extent = new NDSize(new int[]{20});
+            assertEquals(scope.size(), 3);
+
+            da.setDataExtent(extent);
+            assertSame(NativeScope.detach(da), da);
+            assertEquals(scope.size(), 2);
+        }
+
+        assertNull(NativeScope.getCurrent());
+        assertTrue(b.isNull());
+        assertTrue(extent.isNull());
+        assertFalse(da.isNull());
+        assertEquals(da.getDataExtent().getData()[0], 20);
+    }
+
+    @Test
+    public void testLongLived() {
+        Section session = file.createSection("session", "recording");
+        session.createSection("stimulus", "grating");
+        SectionTree tree = new SectionTree();
+        MetadataIndex index;
+
+        Section metadata;
+        try (NativeScope scope = new NativeScope()) {
+            DataArray da = block.getDataArray("array_one");
+            da.setMetadata(session);
+            metadata = da.getMetadata();
+            assertTrue(NativeScope.getCurrent() == scope);
+            index = file.createMetadataIndex();
+            assertEquals(tree.findRelated(metadata, (Section s) -> s.getType().equals("grating")).size(), 1);
+        }
+        assertTrue(metadata.isNull());
+
+        // the index and the tree keep their own handles
+        assertEquals(index.getSection(session.getId()).getName(), "session");
+        assertEquals(index.getSectionIdsByType("grating").size(), 1);
+        assertEquals(tree.findRelated(session, (Section s) -> s.getType().equals("grating")).size(), 1);
+
+        index.close();
+        tree.close();
+    }
+
+    @Test
+    public void testNested() {
+        NativeScope outer = new NativeScope();
+        NativeScope inner = new NativeScope();
+
+        Block b = file.getBlock("block_one");
+        assertEquals(inner.size(), 1);
+        assertEquals(outer.size(), 0);
+
+        try {
+            outer.close();
+            fail();
+        } catch (IllegalStateException e) {
+        }
+
+        inner.close();
+        assertTrue(b.isNull());
+        assertSame(NativeScope.getCurrent(), outer);
+
+        outer.close();
+        assertNull(NativeScope.getCurrent());
+    }
+
+    @Test
+    public void testClose() {
+        Block b = file.getBlock("block_one");
+        b.close();
+        assertTrue(b.isNull());
+
+        Variant v = new Variant(42);
+        v.close();
+        assertTrue(v.isNull());
+
+        assertNotNull(file.getBlock("block_one"));
+    }
+}
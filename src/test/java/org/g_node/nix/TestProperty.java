@@ -147,6 +147,47 @@ public class TestProperty {
         assertTrue(p2.getValues().isEmpty());
     }
 
+    @Test
+    public void testTypedValues() {
+        Section section = file.createSection("Area51", "Boolean");
+
+        Property p1 = section.createProperty("doubleProperty", new Variant(1.0));
+        double[] doubles = {1.0, 2.0, -99.99};
+        p1.setValues(doubles);
+        assertEquals(p1.getValueCount(), doubles.length);
+        assertArrayEquals(doubles, p1.getDoubleValues(), 0.0);
+        assertEquals(p1.getValues().get(2).getDouble(), -99.99, 0.0);
+
+        try {
+            p1.getStringValues();
+            fail();
+        } catch (RuntimeException re) {
+        }
+
+        Property p2 = section.createProperty("longProperty", new Variant(1L));
+        long[] longs = {1L, 1L << 40, -3L};
+        p2.setValues(longs);
+        assertArrayEquals(longs, p2.getLongValues());
+        assertArrayEquals(new double[]{1.0, 1L << 40, -3.0}, p2.getDoubleValues(), 0.0);
+
+        Property p3 = section.createProperty("strProperty", str_dummy);
+        String[] strings = {"Freude", "schoener", "Goetterfunken"};
+        p3.setValues(strings);
+        assertArrayEquals(strings, p3.getStringValues());
+        assertEquals(p3.getValues().get(1).getString(), "schoener");
+
+        try {
+            p3.getDoubleValues();
+            fail();
+        } catch (RuntimeException re) {
+        }
+
+        p3.setValues(new String[0]);
+        assertEquals(p3.getStringValues().length, 0);
+
+        file.deleteSection(section.getId());
+    }
+
     @Test
     public void testDataType() {
         Section section = file.createSection("Area51", "Boolean");
@@ -186,6 +186,17 @@ public class TestSection {
 
         assertTrue(section.findSections(filter_typ1).size() == 3);
         assertTrue(section.findSections(filter_typ2).size() == 8);
+
+        // test result limit and streaming
+        assertTrue(section.findSections(filter_typ2, Integer.MAX_VALUE, 3).size() == 3);
+        assertEquals(section.findSectionStream(filter_typ2, Integer.MAX_VALUE).findFirst().get().getName(), "l1n2");
+        assertTrue(section.findSectionStream(filter_typ1, 1).count() == 1);
+
+        // test parallel search
+        assertTrue(section.findSectionsParallel((Section s) -> true, Integer.MAX_VALUE).size() == 14);
+        assertTrue(section.findSectionsParallel((Section s) -> true, 1).size() == 4);
+        assertTrue(section.findSectionsParallel((Section s) -> s.getName().startsWith("l2"), Integer.MAX_VALUE).size() == 6);
+        assertTrue(section.findSectionsParallel((Section s) -> s.getType().equals("typ2"), Integer.MAX_VALUE).size() == 8);
     }
 
     @Test
@@ -238,6 +249,20 @@ public class TestSection {
         related = l3n2.findRelated((Section s) -> s.getType().equals(t3));
         assertTrue(related.size() == 0);
 
+        try (SectionTree tree = new SectionTree()) {
+            assertTrue(tree.findRelated(l1n1, (Section s) -> s.getType().equals(t3)).size() == 2);
+            assertTrue(tree.findRelated(l4n1, (Section s) -> s.getType().equals(typ1)).size() == 1);
+            assertTrue(tree.findRelated(l3n2, (Section s) -> s.getType().equals(t3)).size() == 0);
+
+            // sections created afterwards are found as well
+            Section l5n2 = l4n1.createSection("l5n2", "t5");
+            related = tree.findRelated(l1n1, (Section s) -> s.getType().equals("t5"));
+            assertTrue(related.size() == 1);
+            assertEquals(related.get(0).getId(), l5n2.getId());
+            l4n1.deleteSection(l5n2);
+            assertTrue(tree.findRelated(l1n1, (Section s) -> s.getType().equals("t5")).size() == 0);
+        }
+
         /* Chop the tree to:
          *
          * section---l1n1---l2n1---l3n1
@@ -38,6 +38,27 @@ public class TestUtil {
         assertEquals("ccc", c);
     }
 
+    @Test
+    public void testCalibrate() {
+        short[] raw = {0, 1, 2, -3};
+        double[] out = new double[4];
+
+        Util.calibrate(new double[]{1.0, 0.5}, 2.0, raw, out, 4);
+        assertArrayEquals(out, new double[]{0.0, 0.5, 1.0, -1.5}, 1e-12);
+
+        Util.calibrate(new double[]{1.0, 0.0, 2.0}, 1.0, new int[]{0, 1, 3}, out, 3);
+        assertArrayEquals(out, new double[]{3.0, 1.0, 9.0, -1.5}, 1e-12);
+
+        Util.calibrate(new double[0], 1.0, new float[]{1.5f, 2.5f}, out, 2);
+        assertArrayEquals(out, new double[]{0.5, 1.5, 9.0, -1.5}, 1e-12);
+
+        double[] in = {1.0, 2.0, 3.0};
+        double[] expected = new double[3];
+        Util.applyPolynomial(new double[]{0.5, 2.0, 1.0}, 0.5, in, expected, 3);
+        Util.calibrate(new double[]{0.5, 2.0, 1.0}, 0.5, in, in, 3);
+        assertArrayEquals(in, expected, 1e-12);
+    }
+
     @Test
     public void testUnitScaling() {
         try {
@@ -66,6 +66,26 @@ public class TestVariant {
         } catch (RuntimeException re) {
         }
 
+        Variant uintVal = new Variant();
+        uintVal.setUInt(0xFFFFFFFFL);
+        assertEquals(uintVal.getType(), DataType.UInt32);
+        assertEquals(uintVal.getUInt(), 0xFFFFFFFFL);
+        try {
+            uintVal.setUInt(-1);
+            fail();
+        } catch (IllegalArgumentException iae) {
+        }
+
+        Variant ulongVal = new Variant();
+        ulongVal.setULong(Long.parseUnsignedLong("18446744073709551615"));
+        assertEquals(ulongVal.getType(), DataType.UInt64);
+        assertEquals(Long.toUnsignedString(ulongVal.getULong()), "18446744073709551615");
+        try {
+            ulongVal.getLong();
+            fail();
+        } catch (RuntimeException re) {
+        }
+
         Variant v1 = new Variant();
         assertEquals(v1.getType(), DataType.Nothing);
     }